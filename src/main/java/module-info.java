@@ -3,10 +3,21 @@ module org.app.roundrobin {
     requires javafx.fxml;
     requires javafx.graphics;
     requires java.desktop;
+    requires jdk.httpserver;
+    requires jdk.management;
 
     opens org.app.roundrobin.controller to javafx.fxml;
     exports org.app.roundrobin;
     exports org.app.roundrobin.controller;
     exports org.app.roundrobin.model;
     exports org.app.roundrobin.algorithm;
+    exports org.app.roundrobin.render;
+    exports org.app.roundrobin.farm;
+    exports org.app.roundrobin.journal;
+    exports org.app.roundrobin.engine;
+    exports org.app.roundrobin.server;
+    exports org.app.roundrobin.runtime;
+    exports org.app.roundrobin.perf;
+    exports org.app.roundrobin.generator;
+    exports org.app.roundrobin.series;
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package org.app.roundrobin.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable LSD radix sort of packed {@code (arrival << 32) | handle} longs by arrival.
+ * <p>
+ * Keys are taken relative to the smallest arrival, so only as many 11-bit digits are sorted as the arrival
+ * range needs (three for anything up to 2^33). Every pass is a counting sort, which keeps equal arrivals in
+ * their previous order; the input is in handle order, so ties end up in handle order as they did with the
+ * comparison sort. Large inputs are cut into one chunk per fork-join worker: each chunk counts its digits,
+ * a prefix sum over (digit, chunk) gives every chunk its own output offsets, and the chunks scatter in
+ * parallel without sharing a slot.
+ */
+final class ArrivalSort {
+
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    // Below this a comparison sort wins over clearing and scanning RADIX counters per pass
+    static final int MIN_RADIX = 4096;
+    // Below this a pass is not worth splitting across workers
+    static final int MIN_PARALLEL = 1 << 17;
+    private static final int MIN_CHUNK = 1 << 15;
+
+    private ArrivalSort() {
+    }
+
+    /**
+     * Sort {@code packed[0, count)} by arrival, keeping ties in their current order.
+     *
+     * @param scratch at least {@code count} long, or null to allocate one when needed
+     * @return the array that holds the sorted values: {@code packed} or the scratch array
+     */
+    static long[] sort(long[] packed, int count, long[] scratch) {
+        if (count < MIN_RADIX) {
+            Arrays.sort(packed, 0, count); // handles are distinct, so no two longs compare equal
+            return packed;
+        }
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            int arrival = (int) (packed[i] >> 32);
+            min = Math.min(min, arrival);
+            max = Math.max(max, arrival);
+        }
+        long range = (long) max - min;
+        int bits = 64 - Long.numberOfLeadingZeros(range);
+        int passes = (bits + DIGIT_BITS - 1) / DIGIT_BITS;
+        if (passes == 0) {
+            return packed; // one arrival time: already in handle order
+        }
+        if (scratch == null || scratch.length < count) {
+            scratch = new long[count];
+        }
+
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunks = parallelism > 1 && count >= MIN_PARALLEL ? Math.min(parallelism, count / MIN_CHUNK) : 1;
+        int base = min;
+        int[][] counts = new int[chunks][RADIX];
+        long[] from = packed;
+        long[] to = scratch;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * DIGIT_BITS;
+            long[] source = from;
+            long[] target = to;
+            if (chunks == 1) {
+                countDigits(source, 0, count, base, shift, counts[0]);
+                offsets(counts);
+                scatter(source, target, 0, count, base, shift, counts[0]);
+            } else {
+                forEachChunk(chunks, count, (chunk, lo, hi) -> countDigits(source, lo, hi, base, shift, counts[chunk]));
+                offsets(counts);
+                forEachChunk(chunks, count, (chunk, lo, hi) -> scatter(source, target, lo, hi, base, shift, counts[chunk]));
+            }
+            from = target;
+            to = source;
+        }
+        return from;
+    }
+
+    private static int digit(long value, int min, int shift) {
+        return (int) ((((value >> 32) - min) >>> shift) & (RADIX - 1));
+    }
+
+    private static void countDigits(long[] values, int lo, int hi, int min, int shift, int[] count) {
+        Arrays.fill(count, 0);
+        for (int i = lo; i < hi; i++) {
+            count[digit(values[i], min, shift)]++;
+        }
+    }
+
+    /**
+     * Turn per-chunk digit counts into per-chunk start offsets: digit-major, then chunk order.
+     */
+    private static void offsets(int[][] counts) {
+        int offset = 0;
+        for (int d = 0; d < RADIX; d++) {
+            for (int[] count : counts) {
+                int c = count[d];
+                count[d] = offset;
+                offset += c;
+            }
+        }
+    }
+
+    private static void scatter(long[] from, long[] to, int lo, int hi, int min, int shift, int[] next) {
+        for (int i = lo; i < hi; i++) {
+            long value = from[i];
+            to[next[digit(value, min, shift)]++] = value;
+        }
+    }
+
+    private interface ChunkAction {
+        void run(int chunk, int lo, int hi);
+    }
+
+    private static void forEachChunk(int chunks, int count, ChunkAction action) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            int lo = (int) ((long) count * c / chunks);
+            int hi = (int) ((long) count * (c + 1) / chunks);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    action.run(chunk, lo, hi);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+}
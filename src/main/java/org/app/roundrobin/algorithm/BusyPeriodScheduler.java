@@ -0,0 +1,169 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel Round Robin by busy-period decomposition.
+ * <p>
+ * Round Robin never leaves the CPU idle while work is waiting, so where the idle gaps fall depends only
+ * on arrivals and bursts: in arrival order, with {@code end = max(end, arrival) + burst}, a process that
+ * arrives strictly after {@code end} starts a new busy period with an empty ready queue. Periods are
+ * therefore independent. One prefix pass finds them; consecutive periods are grouped into leaves of
+ * similar size, each leaf is scheduled by its own {@link ScheduleStepper} on a fork-join task, and the
+ * slices are stitched back in order. The only slice that changes is a leaf's leading IDLE, which a lone
+ * stepper starts at 0 instead of at the previous period's end. The result equals the sequential run.
+ */
+final class BusyPeriodScheduler {
+
+    // Below this many processes a leaf is not worth a task of its own
+    static final int MIN_LEAF_PROCESSES = 16_384;
+
+    private BusyPeriodScheduler() {
+    }
+
+    static RoundRobinScheduler.SimulationResult schedule(RoundRobinScheduler.Workload workload, int quantum) {
+        int n = workload.size();
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (parallelism <= 1 || n < 2 * MIN_LEAF_PROCESSES) {
+            return RoundRobinScheduler.schedule(workload, quantum);
+        }
+
+        int[] order = ScheduleStepper.arrivalOrder(workload.arrivals());
+        int[] arrivals = workload.arrivals();
+        int[] bursts = workload.bursts();
+
+        // One prefix pass: cut into leaves at period starts once a leaf has enough processes
+        int leafTarget = Math.max(MIN_LEAF_PROCESSES, n / (parallelism * 4));
+        List<Leaf> leaves = new ArrayList<>();
+        int leafStart = 0;
+        int leafStartTime = 0; // end of the previous period: where this leaf's leading IDLE starts
+        long end = 0;
+        for (int row = 0; row < n; row++) {
+            int arrival = arrivals[order[row]];
+            if (arrival > end && row - leafStart >= leafTarget) {
+                leaves.add(new Leaf(leafStart, row, leafStartTime));
+                leafStart = row;
+                leafStartTime = (int) end;
+            }
+            end = Math.max(end, arrival) + bursts[order[row]];
+        }
+        leaves.add(new Leaf(leafStart, n, leafStartTime));
+        if (leaves.size() == 1) {
+            return RoundRobinScheduler.schedule(workload, quantum);
+        }
+
+        String[] rowIds = new String[n];
+        int[] rowArrivals = new int[n];
+        int[] rowBursts = new int[n];
+        int[] rowCompletions = new int[n];
+        List<ForkJoinTask<?>> runs = new ArrayList<>(leaves.size());
+        for (Leaf leaf : leaves) {
+            runs.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    leaf.run(workload, order, quantum, rowIds, rowArrivals, rowBursts, rowCompletions);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(runs);
+
+        // Stitch: slice offsets by prefix sum and metric totals, then copy each leaf's slices in parallel
+        int sliceCount = 0;
+        long busyTime = 0;
+        long totalWaitingTime = 0;
+        long totalTurnaroundTime = 0;
+        for (Leaf leaf : leaves) {
+            leaf.sliceOffset = sliceCount;
+            sliceCount += leaf.stepper.sliceCount();
+            busyTime += leaf.stepper.busyTime();
+            totalWaitingTime += leaf.stepper.totalWaitingTime();
+            totalTurnaroundTime += leaf.stepper.totalTurnaroundTime();
+        }
+        int[] entryRows = new int[sliceCount];
+        int[] entryStarts = new int[sliceCount];
+        int[] entryEnds = new int[sliceCount];
+        runs.clear();
+        for (Leaf leaf : leaves) {
+            runs.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    leaf.copySlices(entryRows, entryStarts, entryEnds);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(runs);
+
+        int totalTime = sliceCount == 0 ? 0 : entryEnds[sliceCount - 1];
+        double cpuUtilization = totalTime > 0 ? (double) busyTime / totalTime * 100 : 0.0;
+        double throughput = totalTime > 0 ? (double) n / totalTime : 0.0;
+        Metrics metrics = new Metrics((double) totalWaitingTime / n, (double) totalTurnaroundTime / n,
+                cpuUtilization, throughput, n, totalTime);
+
+        return new RoundRobinScheduler.SimulationResult(
+                new ProcessColumns(rowIds, rowArrivals, rowBursts, rowCompletions),
+                entryRows, entryStarts, entryEnds, metrics);
+    }
+
+    /**
+     * Rows {@code [from, to)} in arrival order: whole busy periods, scheduled together by one stepper.
+     */
+    private static final class Leaf {
+        final int from;
+        final int to;
+        final int startTime;
+        ScheduleStepper stepper;
+        int sliceOffset;
+
+        Leaf(int from, int to, int startTime) {
+            this.from = from;
+            this.to = to;
+            this.startTime = startTime;
+        }
+
+        void run(RoundRobinScheduler.Workload workload, int[] order, int quantum,
+                 String[] rowIds, int[] rowArrivals, int[] rowBursts, int[] rowCompletions) {
+            int size = to - from;
+            String[] ids = new String[size];
+            int[] arrivals = new int[size];
+            int[] bursts = new int[size];
+            for (int i = 0; i < size; i++) {
+                int handle = order[from + i];
+                ids[i] = workload.ids()[handle];
+                arrivals[i] = workload.arrivals()[handle];
+                bursts[i] = workload.bursts()[handle];
+            }
+            // Handles of the sub-workload are its arrival-order positions, so row = from + handle
+            stepper = new ScheduleStepper(new RoundRobinScheduler.Workload(ids, arrivals, bursts), quantum);
+            while (stepper.advance()) {
+                // slices are recorded by the stepper
+            }
+            System.arraycopy(ids, 0, rowIds, from, size);
+            System.arraycopy(arrivals, 0, rowArrivals, from, size);
+            System.arraycopy(bursts, 0, rowBursts, from, size);
+            for (int i = 0; i < size; i++) {
+                rowCompletions[from + i] = stepper.completionOf(i);
+            }
+        }
+
+        void copySlices(int[] entryRows, int[] entryStarts, int[] entryEnds) {
+            for (int i = 0, slice = sliceOffset; i < stepper.sliceCount(); i++, slice++) {
+                int handle = stepper.sliceHandle(i);
+                entryRows[slice] = handle < 0 ? handle : from + handle;
+                entryStarts[slice] = stepper.sliceStart(i);
+                entryEnds[slice] = stepper.sliceEnd(i);
+            }
+            if (from > 0) {
+                // A lone stepper idles from 0; in the whole schedule the gap starts where the last period ended
+                entryStarts[sliceOffset] = startTime;
+            }
+            stepper = null;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A cluster of identical nodes, each running Round Robin on its own CPU, fed by a global dispatcher that
+ * places every process on a node when it arrives.
+ * <p>
+ * Round Robin never idles while work is waiting, so a node's outstanding work at any time follows from what
+ * was placed on it: {@code end = max(end, arrival) + burst}, exactly as in {@link BusyPeriodScheduler}. The
+ * dispatcher therefore sees the true load of every node without simulating any of them, and placement is one
+ * sequential pass in arrival order. After that single synchronization point the nodes share nothing: they are
+ * grouped into fork-join tasks of similar process counts, and each task runs its nodes one after another on a
+ * reused, slice-free {@link ScheduleStepper}. A node's schedule is the one {@link RoundRobinScheduler} produces
+ * for the processes placed on it.
+ */
+public final class ClusterScheduler {
+
+    /**
+     * How the dispatcher picks a node for an arriving process.
+     */
+    public enum Placement {
+        /** Nodes in turn, in arrival order. */
+        ROUND_ROBIN,
+        /** The node with the least outstanding work; among idle nodes, the one idle longest. */
+        LEAST_LOADED,
+        /** The less loaded of two distinct nodes drawn at random (the first drawn on a tie). */
+        POWER_OF_TWO_CHOICES
+    }
+
+    private ClusterScheduler() {
+    }
+
+    /**
+     * Simulate a registry's workload on {@code nodes} nodes.
+     *
+     * @param seed random stream for {@link Placement#POWER_OF_TWO_CHOICES}; ignored by the other placements
+     */
+    public static ClusterResult schedule(WorkloadRegistry workload, int quantum, int nodes, Placement placement,
+                                         long seed) {
+        if (workload == null || workload.isEmpty()) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        RoundRobinScheduler.Workload columns = RoundRobinScheduler.Workload.of(workload);
+        return schedule(columns.arrivals(), columns.bursts(), quantum, nodes, placement, seed);
+    }
+
+    /**
+     * Simulate bare columns indexed by handle, as filled by
+     * {@link org.app.roundrobin.generator.WorkloadGenerator#fill(int[], int[])}; no process IDs are needed.
+     */
+    public static ClusterResult schedule(int[] arrivals, int[] bursts, int quantum, int nodes, Placement placement,
+                                         long seed) {
+        if (arrivals == null || bursts == null || arrivals.length == 0 || quantum <= 0 || nodes <= 0
+                || placement == null) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        if (bursts.length != arrivals.length) {
+            throw new IllegalArgumentException("Column lengths differ");
+        }
+        for (int handle = 0; handle < arrivals.length; handle++) {
+            if (arrivals[handle] < 0 || bursts[handle] <= 0) {
+                throw new IllegalArgumentException("Invalid times for process " + handle);
+            }
+        }
+
+        int[] order = ScheduleStepper.arrivalOrder(arrivals);
+        int[] nodeOf = place(order, arrivals, bursts, nodes, placement, seed);
+
+        // Group handles by node (CSR); a stable counting sort of the arrival order keeps each node's in order
+        int n = arrivals.length;
+        int[] nodeStart = new int[nodes + 1];
+        for (int handle = 0; handle < n; handle++) {
+            nodeStart[nodeOf[handle] + 1]++;
+        }
+        for (int node = 0; node < nodes; node++) {
+            nodeStart[node + 1] += nodeStart[node];
+        }
+        int[] members = new int[n];
+        int[] next = new int[nodes];
+        System.arraycopy(nodeStart, 0, next, 0, nodes);
+        for (int handle : order) {
+            members[next[nodeOf[handle]]++] = handle;
+        }
+
+        ClusterResult result = new ClusterResult(nodeOf, nodes);
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int tasks = parallelism <= 1 ? 1 : Math.min(nodes, parallelism * 4);
+        if (tasks == 1) {
+            new NodeRange(0, nodes).run(arrivals, bursts, quantum, nodeStart, members, result);
+        } else {
+            // Cut the node sequence at even shares of the processes, so tasks carry similar work
+            List<ForkJoinTask<?>> runs = new ArrayList<>(tasks);
+            int from = 0;
+            for (int t = 1; t <= tasks && from < nodes; t++) {
+                long share = (long) n * t / tasks;
+                int to = t == tasks ? nodes : from + 1;
+                while (to < nodes && nodeStart[to] < share) {
+                    to++;
+                }
+                NodeRange range = new NodeRange(from, to);
+                runs.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        range.run(arrivals, bursts, quantum, nodeStart, members, result);
+                    }
+                });
+                from = to;
+            }
+            ForkJoinTask.invokeAll(runs);
+        }
+        result.summarize();
+        return result;
+    }
+
+    /**
+     * The dispatcher: node of every handle, chosen in arrival {@code order} from each node's work-conserving
+     * end time.
+     */
+    static int[] place(int[] order, int[] arrivals, int[] bursts, int nodes, Placement placement, long seed) {
+        int[] nodeOf = new int[arrivals.length];
+        long[] end = new long[nodes];
+        int[] heap = null;
+        if (placement == Placement.LEAST_LOADED) {
+            heap = new int[nodes]; // min-heap on (end, node); all ends start at 0, so 0..nodes-1 is a heap
+            for (int node = 0; node < nodes; node++) {
+                heap[node] = node;
+            }
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int position = 0;
+        for (int handle : order) {
+            int node = switch (placement) {
+                case ROUND_ROBIN -> position % nodes;
+                case LEAST_LOADED -> heap[0];
+                case POWER_OF_TWO_CHOICES -> {
+                    if (nodes == 1) {
+                        yield 0;
+                    }
+                    int first = random.nextInt(nodes);
+                    int second = random.nextInt(nodes - 1);
+                    if (second >= first) {
+                        second++;
+                    }
+                    // Compare outstanding work, not ends: two idle nodes carry none, and the first drawn wins
+                    long arrival = arrivals[handle];
+                    yield Math.max(0, end[second] - arrival) < Math.max(0, end[first] - arrival) ? second : first;
+                }
+            };
+            end[node] = Math.max(end[node], arrivals[handle]) + bursts[handle];
+            nodeOf[handle] = node;
+            if (heap != null) {
+                siftDown(heap, end, 0);
+            }
+            position++;
+        }
+        return nodeOf;
+    }
+
+    private static void siftDown(int[] heap, long[] end, int i) {
+        int n = heap.length;
+        int node = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && lighter(heap[child + 1], heap[child], end)) {
+                child++;
+            }
+            if (!lighter(heap[child], node, end)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = node;
+    }
+
+    private static boolean lighter(int a, int b, long[] end) {
+        return end[a] < end[b] || (end[a] == end[b] && a < b);
+    }
+
+    /**
+     * Nodes {@code [from, to)}, simulated one after another on one stepper whose buffers only grow.
+     */
+    private record NodeRange(int from, int to) {
+
+        void run(int[] arrivals, int[] bursts, int quantum, int[] nodeStart, int[] members, ClusterResult result) {
+            ScheduleStepper stepper = new ScheduleStepper(false);
+            int[] nodeArrivals = new int[0];
+            int[] nodeBursts = new int[0];
+            for (int node = from; node < to; node++) {
+                int first = nodeStart[node];
+                int count = nodeStart[node + 1] - first;
+                if (count == 0) {
+                    continue;
+                }
+                if (nodeArrivals.length < count) {
+                    nodeArrivals = new int[Math.max(count, nodeArrivals.length + (nodeArrivals.length >> 1))];
+                    nodeBursts = new int[nodeArrivals.length];
+                }
+                for (int i = 0; i < count; i++) {
+                    int handle = members[first + i];
+                    nodeArrivals[i] = arrivals[handle];
+                    nodeBursts[i] = bursts[handle];
+                }
+                // Local handle i is members[first + i]; the columns are in arrival order, so nothing is sorted
+                stepper.reset(null, nodeArrivals, nodeBursts, count, quantum);
+                stepper.finish();
+                for (int i = 0; i < count; i++) {
+                    result.completion[members[first + i]] = stepper.completionOf(i);
+                }
+                result.record(node, count, stepper.getCurrentTime(), stepper.busyTime(),
+                        stepper.totalWaitingTime(), stepper.totalTurnaroundTime());
+            }
+        }
+    }
+
+    /**
+     * Placement, completion times and metrics of a cluster run, per node and for the whole cluster.
+     * Cluster CPU utilization is busy time over {@code nodes * totalTime}.
+     */
+    public static final class ClusterResult {
+        private final int[] nodeOf;
+        private final int[] completion;
+        private final Metrics[] nodeMetrics;
+        private final long[] nodeBusyTime;
+        private final long[] nodeWaitingTime;
+        private final long[] nodeTurnaroundTime;
+        private Metrics metrics;
+
+        ClusterResult(int[] nodeOf, int nodes) {
+            this.nodeOf = nodeOf;
+            this.completion = new int[nodeOf.length];
+            this.nodeMetrics = new Metrics[nodes];
+            this.nodeBusyTime = new long[nodes];
+            this.nodeWaitingTime = new long[nodes];
+            this.nodeTurnaroundTime = new long[nodes];
+        }
+
+        public int getNodeCount() { return nodeMetrics.length; }
+        public int getProcessCount() { return nodeOf.length; }
+        public int getNodeOf(int handle) { return nodeOf[handle]; }
+        public int getCompletionTime(int handle) { return completion[handle]; }
+        public Metrics getNodeMetrics(int node) { return nodeMetrics[node]; }
+        public long getNodeBusyTime(int node) { return nodeBusyTime[node]; }
+        public Metrics getMetrics() { return metrics; }
+
+        // Each node is written by exactly one task; invokeAll orders these writes before summarize()
+        void record(int node, int count, int totalTime, long busyTime, long waitingTime, long turnaroundTime) {
+            nodeBusyTime[node] = busyTime;
+            nodeWaitingTime[node] = waitingTime;
+            nodeTurnaroundTime[node] = turnaroundTime;
+            double cpuUtilization = totalTime > 0 ? (double) busyTime / totalTime * 100 : 0.0;
+            double throughput = totalTime > 0 ? (double) count / totalTime : 0.0;
+            nodeMetrics[node] = new Metrics((double) waitingTime / count, (double) turnaroundTime / count,
+                    cpuUtilization, throughput, count, totalTime);
+        }
+
+        void summarize() {
+            int n = nodeOf.length;
+            int totalTime = 0;
+            long busyTime = 0;
+            long waitingTime = 0;
+            long turnaroundTime = 0;
+            for (int node = 0; node < nodeMetrics.length; node++) {
+                if (nodeMetrics[node] == null) {
+                    nodeMetrics[node] = new Metrics(0, 0, 0, 0, 0, 0); // nothing was placed here
+                }
+                totalTime = Math.max(totalTime, nodeMetrics[node].getTotalTime());
+                busyTime += nodeBusyTime[node];
+                waitingTime += nodeWaitingTime[node];
+                turnaroundTime += nodeTurnaroundTime[node];
+            }
+            double cpuUtilization = totalTime > 0 ? (double) busyTime / ((long) nodeMetrics.length * totalTime) * 100 : 0.0;
+            double throughput = totalTime > 0 ? (double) n / totalTime : 0.0;
+            metrics = new Metrics((double) waitingTime / n, (double) turnaroundTime / n,
+                    cpuUtilization, throughput, n, totalTime);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.app.roundrobin.algorithm;
+
+/**
+ * The reductions behind {@link ResultStatistics}, over plain int columns. {@link ScalarMetricKernels} is the
+ * reference; {@code VectorMetricKernels} (built by the {@code vector} profile) computes the same with the
+ * Vector API when {@code jdk.incubator.vector} is in the boot layer.
+ */
+interface MetricKernels {
+
+    /**
+     * Running sum, min, max and squared deviations of one derived column. Squares are taken around a pivot
+     * (a value from the column) so the variance does not lose precision when values are large and close.
+     */
+    final class Moments {
+        final double pivot;
+        long sum;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        double squares;
+
+        Moments(int pivot) {
+            this.pivot = pivot;
+        }
+
+        void add(int value) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            double deviation = value - pivot;
+            squares += deviation * deviation;
+        }
+    }
+
+    /**
+     * Add turnaround ({@code completion - arrival}) and waiting ({@code turnaround - burst}) of rows
+     * {@code [0, length)} to the moments.
+     *
+     * @return the sum of the bursts
+     */
+    long accumulate(int[] arrivals, int[] bursts, int[] completions, int length, Moments turnaround,
+                    Moments waiting);
+
+    /**
+     * Total length of the slices {@code [0, length)} that ran a process (row not negative).
+     */
+    long busyTime(int[] rows, int[] starts, int[] ends, int length);
+}
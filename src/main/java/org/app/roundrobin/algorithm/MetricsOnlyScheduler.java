@@ -0,0 +1,123 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.util.Arrays;
+
+/**
+ * Round Robin completion times and metrics without a Gantt chart.
+ * <p>
+ * When every process arrives at the same time {@code T} nothing joins the queue later, so the schedule is a
+ * fixed cycle in input order: process {@code i} needs {@code k_i = ceil(b_i / q)} rounds (at least one) and
+ * finishes in round {@code k_i} once everything ahead of it in that round has run. Its completion is
+ * <pre>
+ * T + (bursts of processes with k_j &lt; k_i)
+ *   + (k_i - 1) * q * (processes with k_j &gt;= k_i)
+ *   + (work in round k_i of the processes ahead of i with k_j &gt;= k_i) + (b_i - (k_i - 1) * q)
+ * </pre>
+ * where a process ahead runs a full quantum in round {@code k_i} if {@code k_j > k_i} and its last piece if
+ * {@code k_j = k_i}. Processes are taken in order of {@code k}; a Fenwick tree over input positions counts
+ * the ones still running ahead of {@code i}. That is O(n log n) for any quantum. Other workloads run through
+ * a {@link ScheduleStepper} that does not keep its slices.
+ */
+final class MetricsOnlyScheduler {
+
+    private MetricsOnlyScheduler() {
+    }
+
+    static RoundRobinScheduler.SimulationResult schedule(RoundRobinScheduler.Workload workload, int quantum) {
+        int[] arrivals = workload.arrivals();
+        for (int arrival : arrivals) {
+            if (arrival != arrivals[0]) {
+                ScheduleStepper stepper = new ScheduleStepper(workload, quantum, null, false);
+                while (stepper.advance()) {
+                    // slices are produced and dropped
+                }
+                return stepper.toResult();
+            }
+        }
+        return singleBatch(workload, quantum);
+    }
+
+    private static RoundRobinScheduler.SimulationResult singleBatch(RoundRobinScheduler.Workload workload, int quantum) {
+        int n = workload.size();
+        int[] bursts = workload.bursts();
+        long arrival = workload.arrivals()[0];
+
+        // (rounds, position) packed: groups of equal rounds, each in queue order
+        long[] byRounds = new long[n];
+        long totalBurst = 0;
+        for (int i = 0; i < n; i++) {
+            long rounds = Math.max(1, ((long) bursts[i] + quantum - 1) / quantum);
+            byRounds[i] = rounds << 32 | i;
+            totalBurst += bursts[i];
+        }
+        Arrays.sort(byRounds);
+
+        // Fenwick tree of processes still running (k_j >= current k), by position
+        int[] running = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            running[i]++;
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                running[parent] += running[i];
+            }
+        }
+
+        int[] completion = new int[n];
+        long finishedWork = 0;
+        int stillRunning = n;
+        long totalTurnaroundTime = 0;
+        for (int groupStart = 0; groupStart < n; ) {
+            long rounds = byRounds[groupStart] >>> 32;
+            int groupEnd = groupStart;
+            while (groupEnd < n && byRounds[groupEnd] >>> 32 == rounds) {
+                groupEnd++;
+            }
+            long fullRounds = (rounds - 1) * quantum;
+            long base = arrival + finishedWork + fullRounds * stillRunning;
+            long lastPiecesAhead = 0;
+            for (int g = groupStart; g < groupEnd; g++) {
+                int position = (int) byRounds[g];
+                int lastPiece = (int) (bursts[position] - fullRounds);
+                int ahead = runningBefore(running, position);
+                int aheadInGroup = g - groupStart;
+                long end = base + (long) (ahead - aheadInGroup) * quantum + lastPiecesAhead + lastPiece;
+                completion[position] = (int) end;
+                totalTurnaroundTime += end - arrival;
+                lastPiecesAhead += lastPiece;
+            }
+            for (int g = groupStart; g < groupEnd; g++) {
+                int position = (int) byRounds[g];
+                for (int i = position + 1; i <= n; i += i & -i) {
+                    running[i]--;
+                }
+                finishedWork += bursts[position];
+            }
+            stillRunning -= groupEnd - groupStart;
+            groupStart = groupEnd;
+        }
+
+        int totalTime = (int) (arrival + totalBurst);
+        long totalWaitingTime = totalTurnaroundTime - totalBurst;
+        double cpuUtilization = totalTime > 0 ? (double) totalBurst / totalTime * 100 : 0.0;
+        double throughput = totalTime > 0 ? (double) n / totalTime : 0.0;
+        Metrics metrics = new Metrics((double) totalWaitingTime / n, (double) totalTurnaroundTime / n,
+                cpuUtilization, throughput, n, totalTime);
+
+        // One arrival time: arrival order is input order, so the workload's columns are the rows
+        return new RoundRobinScheduler.SimulationResult(
+                new ProcessColumns(workload.ids(), workload.arrivals(), bursts, completion),
+                new int[0], new int[0], new int[0], metrics);
+    }
+
+    // Running processes at positions before {@code position}
+    private static int runningBefore(int[] tree, int position) {
+        int count = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
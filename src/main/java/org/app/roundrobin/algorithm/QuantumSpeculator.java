@@ -0,0 +1,185 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Results for a quantum that is being dragged around: the requested quantum is scheduled first, then its
+ * neighbors within {@code radius} on either side, on background threads that leave one core to the UI.
+ * <p>
+ * Runs are kept by quantum in a small access-ordered map, so dragging back over a value finds it finished.
+ * A request cancels every unfinished run outside the new neighborhood (an interrupted run stops within a few
+ * thousand slices, see {@link ScheduleStepper#finishInterruptibly()}), and finished runs beyond the map's
+ * capacity are dropped oldest first. Finished results also go into the {@link SimulationCache}, which is
+ * consulted before scheduling, so a later run of the same quantum is a cache hit.
+ * <p>
+ * The workload is copied on the first request after {@link #invalidate()}; every run and preview shares that
+ * copy. Methods are called from one thread (the UI's); results complete on the background threads.
+ */
+public final class QuantumSpeculator implements AutoCloseable {
+
+    public static final int DEFAULT_RADIUS = 2;
+
+    private final SimulationCache cache;
+    private final int radius;
+    private final int capacity;
+    private final ExecutorService executor;
+    private final LinkedHashMap<Integer, Run> runs = new LinkedHashMap<>(16, 0.75f, true);
+    private RoundRobinScheduler.Workload snapshot;
+    private long totalBurstTime;
+
+    private static final class Run {
+        final CompletableFuture<RoundRobinScheduler.SimulationResult> result = new CompletableFuture<>();
+        Future<?> task;
+
+        void cancel() {
+            task.cancel(true);
+            result.cancel(false);
+        }
+    }
+
+    public QuantumSpeculator(SimulationCache cache) {
+        this(cache, DEFAULT_RADIUS);
+    }
+
+    /**
+     * @param radius neighbors scheduled on each side of a requested quantum; finished runs are kept for about
+     *               two neighborhoods
+     */
+    public QuantumSpeculator(SimulationCache cache, int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius must not be negative");
+        }
+        this.cache = cache;
+        this.radius = radius;
+        this.capacity = 2 * (2 * radius + 1);
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "quantum-speculation");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * The result for {@code quantum}: already complete if it was computed before, otherwise completing once its
+     * run finishes (or cancelled if a later request moves away from it). Neighbors are started behind it.
+     */
+    public CompletableFuture<RoundRobinScheduler.SimulationResult> request(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        snapshot(workload);
+
+        Iterator<Map.Entry<Integer, Run>> stale = runs.entrySet().iterator();
+        while (stale.hasNext()) {
+            Map.Entry<Integer, Run> entry = stale.next();
+            if (!entry.getValue().result.isDone() && Math.abs(entry.getKey() - quantum) > radius) {
+                entry.getValue().cancel();
+                stale.remove();
+            }
+        }
+
+        Run target = start(quantum);
+        for (int d = 1; d <= radius; d++) {
+            if (quantum - d > 0) {
+                start(quantum - d);
+            }
+            start(quantum + d);
+        }
+        runs.get(quantum); // most recently used again, ahead of its neighbors
+
+        Iterator<Run> eldest = runs.values().iterator();
+        while (runs.size() > capacity && eldest.hasNext()) {
+            if (eldest.next().result.isDone()) {
+                eldest.remove();
+            }
+        }
+        return target.result;
+    }
+
+    /**
+     * A stepper at the start of {@code quantum}'s schedule, for a preview while the full result is computed.
+     * It shares the workload copy with the runs, so building one costs only the arrival sort.
+     */
+    public ScheduleStepper preview(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return new ScheduleStepper(snapshot(workload), quantum);
+    }
+
+    /**
+     * Sum of the bursts: the busy time of every quantum's schedule.
+     */
+    public long getTotalBurstTime(WorkloadRegistry workload) {
+        snapshot(workload);
+        return totalBurstTime;
+    }
+
+    /**
+     * The workload changed: cancel every run and forget every result.
+     */
+    public void invalidate() {
+        for (Run run : runs.values()) {
+            run.cancel();
+        }
+        runs.clear();
+        snapshot = null;
+    }
+
+    @Override
+    public void close() {
+        invalidate();
+        executor.shutdownNow();
+    }
+
+    private RoundRobinScheduler.Workload snapshot(WorkloadRegistry workload) {
+        if (snapshot == null) {
+            snapshot = RoundRobinScheduler.Workload.of(workload);
+            long sum = 0;
+            for (int burst : snapshot.bursts()) {
+                sum += burst;
+            }
+            totalBurstTime = sum;
+        }
+        return snapshot;
+    }
+
+    private Run start(int quantum) {
+        Run run = runs.get(quantum);
+        if (run != null && !run.result.isCompletedExceptionally()) {
+            return run;
+        }
+        Run started = new Run();
+        RoundRobinScheduler.Workload workload = snapshot;
+        started.task = executor.submit(() -> {
+            try {
+                String key = SimulationCache.key(workload, quantum, SimulationCache.POLICY_ROUND_ROBIN);
+                RoundRobinScheduler.SimulationResult result = cache.get(key);
+                if (result == null) {
+                    ScheduleStepper stepper = new ScheduleStepper(workload, quantum);
+                    stepper.finishInterruptibly();
+                    result = stepper.toResult();
+                    cache.put(key, result);
+                }
+                started.result.complete(result);
+            } catch (InterruptedException | CancellationException e) {
+                started.result.cancel(false);
+            } catch (RuntimeException | OutOfMemoryError e) {
+                started.result.completeExceptionally(e); // the caller still hears about a run too large for the heap
+            }
+        });
+        runs.put(quantum, started);
+        return started;
+    }
+}
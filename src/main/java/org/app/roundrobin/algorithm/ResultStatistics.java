@@ -0,0 +1,148 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Sums, extremes and variances of a finished result's waiting and turnaround times, plus its busy time, for
+ * comparing the many results of a sweep or Monte Carlo run.
+ * <p>
+ * The reductions run on {@code VectorMetricKernels} when the build includes them ({@code mvn -Pvector}) and
+ * the JVM has {@code jdk.incubator.vector} (start it with {@code --add-modules jdk.incubator.vector}),
+ * otherwise on {@link ScalarMetricKernels}; setting the {@code roundrobin.metrics.scalar} system property
+ * forces the scalar path. Process columns are read in
+ * {@link #BLOCK}-row copies that stay in cache, and slice columns in place. Busy time is the length of the
+ * non-idle slices, or the sum of the bursts for a result without a Gantt chart: Round Robin runs every burst
+ * to the end, so the two agree.
+ */
+public final class ResultStatistics {
+
+    static final int BLOCK = 4096;
+
+    private static final String VECTOR_KERNELS = ResultStatistics.class.getPackageName() + ".VectorMetricKernels";
+
+    private static final MetricKernels KERNELS = selectKernels();
+
+    private final int processCount;
+    private final int totalTime;
+    private final long busyTime;
+    private final long totalWaitingTime;
+    private final long totalTurnaroundTime;
+    private final int minWaitingTime;
+    private final int maxWaitingTime;
+    private final int minTurnaroundTime;
+    private final int maxTurnaroundTime;
+    private final double waitingTimeVariance;
+    private final double turnaroundTimeVariance;
+
+    private ResultStatistics(int processCount, int totalTime, long busyTime,
+                             MetricKernels.Moments waiting, MetricKernels.Moments turnaround) {
+        this.processCount = processCount;
+        this.totalTime = totalTime;
+        this.busyTime = busyTime;
+        this.totalWaitingTime = waiting.sum;
+        this.totalTurnaroundTime = turnaround.sum;
+        this.minWaitingTime = waiting.min;
+        this.maxWaitingTime = waiting.max;
+        this.minTurnaroundTime = turnaround.min;
+        this.maxTurnaroundTime = turnaround.max;
+        this.waitingTimeVariance = variance(waiting, processCount);
+        this.turnaroundTimeVariance = variance(turnaround, processCount);
+    }
+
+    /**
+     * Whether reductions run on the Vector API in this JVM.
+     */
+    public static boolean isVectorized() { return !(KERNELS instanceof ScalarMetricKernels); }
+
+    public static ResultStatistics of(RoundRobinScheduler.SimulationResult result) {
+        return of(result, KERNELS);
+    }
+
+    /**
+     * Statistics of every result, in order, reduced in parallel.
+     */
+    public static ResultStatistics[] of(List<RoundRobinScheduler.SimulationResult> results) {
+        ResultStatistics[] statistics = new ResultStatistics[results.size()];
+        IntStream.range(0, statistics.length).parallel()
+                .forEach(i -> statistics[i] = of(results.get(i), KERNELS));
+        return statistics;
+    }
+
+    static ResultStatistics of(RoundRobinScheduler.SimulationResult result, MetricKernels kernels) {
+        ProcessColumns columns = result.getProcessColumns();
+        int n = columns.size();
+        if (n == 0) {
+            throw new IllegalArgumentException("Result has no processes");
+        }
+        MetricKernels.Moments waiting = new MetricKernels.Moments(columns.getWaitingTime(0));
+        MetricKernels.Moments turnaround = new MetricKernels.Moments(columns.getTurnaroundTime(0));
+        int block = Math.min(BLOCK, n);
+        int[] arrivals = new int[block];
+        int[] bursts = new int[block];
+        int[] completions = new int[block];
+        long burstSum = 0;
+        for (int from = 0; from < n; from += block) {
+            int length = Math.min(block, n - from);
+            columns.copyInts(ProcessColumns.Column.ARRIVAL_TIME, from, arrivals, 0, length);
+            columns.copyInts(ProcessColumns.Column.BURST_TIME, from, bursts, 0, length);
+            columns.copyInts(ProcessColumns.Column.COMPLETION_TIME, from, completions, 0, length);
+            burstSum += kernels.accumulate(arrivals, bursts, completions, length, turnaround, waiting);
+        }
+
+        int slices = result.getGanttEntryCount();
+        long busyTime = slices == 0
+                ? burstSum
+                : kernels.busyTime(result.entryRows(), result.entryStarts(), result.entryEnds(), slices);
+        int totalTime = slices == 0 ? result.getMetrics().getTotalTime() : result.getEntryEnd(slices - 1);
+        return new ResultStatistics(n, totalTime, busyTime, waiting, turnaround);
+    }
+
+    private static double variance(MetricKernels.Moments moments, int n) {
+        double deviationSum = moments.sum - n * moments.pivot;
+        return Math.max(0, (moments.squares - deviationSum * deviationSum / n) / n);
+    }
+
+    private static MetricKernels selectKernels() {
+        Optional<Module> vector = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (!Boolean.getBoolean("roundrobin.metrics.scalar") && vector.isPresent()) {
+            try {
+                // The module descriptor does not require the incubator module, so read it before linking
+                ResultStatistics.class.getModule().addReads(vector.get());
+                Class<? extends MetricKernels> type = Class.forName(VECTOR_KERNELS).asSubclass(MetricKernels.class);
+                if ((Boolean) type.getDeclaredMethod("supported").invoke(null)) {
+                    return type.getDeclaredConstructor().newInstance();
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // built without the vector profile, or not usable here: fall back
+            }
+        }
+        return new ScalarMetricKernels();
+    }
+
+    public int getProcessCount() { return processCount; }
+    public int getTotalTime() { return totalTime; }
+    public long getBusyTime() { return busyTime; }
+    public long getTotalWaitingTime() { return totalWaitingTime; }
+    public long getTotalTurnaroundTime() { return totalTurnaroundTime; }
+    public int getMinWaitingTime() { return minWaitingTime; }
+    public int getMaxWaitingTime() { return maxWaitingTime; }
+    public int getMinTurnaroundTime() { return minTurnaroundTime; }
+    public int getMaxTurnaroundTime() { return maxTurnaroundTime; }
+    public double getWaitingTimeVariance() { return waitingTimeVariance; }
+    public double getTurnaroundTimeVariance() { return turnaroundTimeVariance; }
+
+    /**
+     * The result's {@link Metrics}, recomputed from these sums with the scheduler's formulas.
+     */
+    public Metrics toMetrics() {
+        double cpuUtilization = totalTime > 0 ? (double) busyTime / totalTime * 100 : 0.0;
+        double throughput = totalTime > 0 ? (double) processCount / totalTime : 0.0;
+        return new Metrics((double) totalWaitingTime / processCount, (double) totalTurnaroundTime / processCount,
+                cpuUtilization, throughput, processCount, totalTime);
+    }
+}
@@ -3,9 +3,10 @@ package org.app.roundrobin.algorithm;
 import org.app.roundrobin.model.Process;
 import org.app.roundrobin.model.GanttEntry;
 import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+import org.app.roundrobin.model.WorkloadRegistry;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class RoundRobinScheduler {
 
@@ -16,229 +17,236 @@ public class RoundRobinScheduler {
         if (processes == null || processes.isEmpty() || quantum <= 0) {
             throw new IllegalArgumentException("Invalid input parameters");
         }
+        // Working copies as columns (so caller objects are not mutated)
+        return schedule(Workload.of(processes), quantum);
+    }
 
-        // Create working copies of processes (so caller objects are not mutated)
-        List<Process> workingProcesses = processes.stream()
-                .map(p -> new Process(p.getProcessId(), p.getArrivalTime(), p.getBurstTime()))
-                .collect(Collectors.toList());
-
-        // Sort processes by arrival time
-        workingProcesses.sort(Comparator.comparingInt(Process::getArrivalTime));
-
-        List<GanttEntry> ganttChart = new ArrayList<>();
-        CircularProcessQueue readyQueue = new CircularProcessQueue();
-        int currentTime = 0;
-        int completedProcesses = 0;
-        int totalProcesses = workingProcesses.size();
-
-        // Initialize remaining time
-        for (Process p : workingProcesses) {
-            p.setRemainingTime(p.getBurstTime());
-        }
-
-        // Add first arriving processes to ready queue
-        int nextProcessIndex = 0;
-        while (nextProcessIndex < totalProcesses &&
-                workingProcesses.get(nextProcessIndex).getArrivalTime() <= currentTime) {
-            readyQueue.add(workingProcesses.get(nextProcessIndex));
-            nextProcessIndex++;
-        }
-
-        // Main scheduling loop
-        while (completedProcesses < totalProcesses) {
-
-            if (readyQueue.isEmpty()) {
-                // If there's no process ready but there are still processes to arrive -> CPU idle
-                if (nextProcessIndex < totalProcesses) {
-                    int nextArrivalTime = workingProcesses.get(nextProcessIndex).getArrivalTime();
-                    if (nextArrivalTime > currentTime) {
-                        ganttChart.add(new GanttEntry("IDLE", currentTime, nextArrivalTime));
-                        currentTime = nextArrivalTime;
-                    }
-                    // Add arriving processes
-                    while (nextProcessIndex < totalProcesses &&
-                            workingProcesses.get(nextProcessIndex).getArrivalTime() <= currentTime) {
-                        readyQueue.add(workingProcesses.get(nextProcessIndex));
-                        nextProcessIndex++;
-                    }
-                    continue;
-                } else {
-                    // Shouldn't normally happen: no ready processes and no future arrivals,
-                    // but break to avoid infinite loop.
-                    break;
-                }
-            }
-
-            Process currentProcess = readyQueue.poll();
-            if (currentProcess == null) {
-                // Defensive: if poll returned null, continue loop
-                continue;
-            }
-
-            int executionTime = Math.min(currentProcess.getRemainingTime(), quantum);
-            int startTime = currentTime;
-            currentTime += executionTime;
-            currentProcess.setRemainingTime(currentProcess.getRemainingTime() - executionTime);
-
-            // Record Gantt chart entry
-            ganttChart.add(new GanttEntry(currentProcess.getProcessId(), startTime, currentTime));
+    /**
+     * Schedules a registry's workload, reading its columns by handle without building {@link Process} objects first.
+     */
+    public static SimulationResult schedule(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return schedule(Workload.of(workload), quantum);
+    }
 
-            // Add newly arrived processes to ready queue (only those that arrived up to currentTime)
-            while (nextProcessIndex < totalProcesses &&
-                    workingProcesses.get(nextProcessIndex).getArrivalTime() <= currentTime) {
-                Process newProcess = workingProcesses.get(nextProcessIndex);
-                if (!readyQueue.contains(newProcess) && newProcess.getRemainingTime() > 0) {
-                    readyQueue.add(newProcess);
-                }
-                nextProcessIndex++;
-            }
+    /**
+     * Same result as {@link #schedule(List, int)}, computed one busy period per fork-join task
+     * (see {@link BusyPeriodScheduler}). Pays off on long traces with many idle gaps.
+     */
+    public static SimulationResult scheduleParallel(List<Process> processes, int quantum) {
+        if (processes == null || processes.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return BusyPeriodScheduler.schedule(Workload.of(processes), quantum);
+    }
 
-            // Check if current process completed
-            if (currentProcess.getRemainingTime() == 0) {
-                completedProcesses++;
-                currentProcess.setCompletionTime(currentTime);
-                currentProcess.setTurnaroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
-                currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime());
-            } else {
-                // Process not completed, add back to ready queue (circular behavior maintained)
-                if (!readyQueue.contains(currentProcess)) {
-                    readyQueue.add(currentProcess);
-                } else {
-                    // If it's already somehow in the queue (defensive), rotate queue to maintain order.
-                    readyQueue.add(currentProcess);
-                }
-            }
+    /**
+     * Same result as {@link #schedule(WorkloadRegistry, int)}, computed one busy period per fork-join task.
+     */
+    public static SimulationResult scheduleParallel(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
         }
+        return BusyPeriodScheduler.schedule(Workload.of(workload), quantum);
+    }
 
-        // Calculate metrics
-        Metrics metrics = calculateMetrics(workingProcesses, ganttChart);
+    /**
+     * Completion times and metrics of {@link #schedule(List, int)} without the Gantt chart, which stays empty.
+     * A single arrival batch is evaluated in closed form (see {@link MetricsOnlyScheduler}).
+     */
+    public static SimulationResult scheduleMetrics(List<Process> processes, int quantum) {
+        if (processes == null || processes.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return MetricsOnlyScheduler.schedule(Workload.of(processes), quantum);
+    }
 
-        return new SimulationResult(workingProcesses, ganttChart, metrics);
+    /**
+     * Completion times and metrics of {@link #schedule(WorkloadRegistry, int)} without the Gantt chart.
+     */
+    public static SimulationResult scheduleMetrics(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return MetricsOnlyScheduler.schedule(Workload.of(workload), quantum);
     }
 
     /**
-     * Calculate performance metrics (keeps same semantics as original).
+     * Same as {@link #schedule(WorkloadRegistry, int)}, reporting every scheduling decision to {@code sink}
+     * with the registry's process handles.
      */
-    private static Metrics calculateMetrics(List<Process> processes, List<GanttEntry> ganttChart) {
-        double totalWaitingTime = processes.stream().mapToInt(Process::getWaitingTime).sum();
-        double totalTurnaroundTime = processes.stream().mapToInt(Process::getTurnaroundTime).sum();
-        double avgWaitingTime = totalWaitingTime / processes.size();
-        double avgTurnaroundTime = totalTurnaroundTime / processes.size();
-
-        // Calculate CPU utilization
-        int totalBusyTime = ganttChart.stream()
-                .filter(entry -> !entry.getProcessId().equals("IDLE"))
-                .mapToInt(GanttEntry::getDuration)
-                .sum();
-
-        int totalTime = ganttChart.isEmpty() ? 0 : ganttChart.get(ganttChart.size() - 1).getEndTime();
-        double cpuUtilization = totalTime > 0 ? (double) totalBusyTime / totalTime * 100 : 0.0;
-
-        // Calculate throughput
-        double throughput = totalTime > 0 ? (double) processes.size() / totalTime : 0.0;
-
-        return new Metrics(avgWaitingTime, avgTurnaroundTime, cpuUtilization,
-                throughput, processes.size(), totalTime);
+    public static SimulationResult schedule(WorkloadRegistry workload, int quantum, ScheduleEventSink sink) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return run(new ScheduleStepper(Workload.of(workload), quantum, sink));
     }
 
     /**
-     * Simulation result inner class - unchanged public API.
+     * Playback: the same schedule as {@link #schedule(WorkloadRegistry, int)}, produced one slice per {@link ScheduleStepper#next()}.
      */
-    public static class SimulationResult {
-        private final List<Process> processes;
-        private final List<GanttEntry> ganttChart;
-        private final Metrics metrics;
+    public static ScheduleStepper stepper(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return new ScheduleStepper(Workload.of(workload), quantum);
+    }
 
-        public SimulationResult(List<Process> processes, List<GanttEntry> ganttChart, Metrics metrics) {
-            this.processes = processes;
-            this.ganttChart = ganttChart;
-            this.metrics = metrics;
+    /**
+     * A stepper that reports every decision to {@code sink} and keeps no slices, for passes that only observe
+     * the schedule; its result has an empty Gantt chart. The workload is copied here, so the stepper may run
+     * on another thread.
+     */
+    public static ScheduleStepper stepper(WorkloadRegistry workload, int quantum, ScheduleEventSink sink) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
         }
+        return new ScheduleStepper(Workload.of(workload), quantum, sink, false);
+    }
 
-        public List<Process> getProcesses() { return processes; }
-        public List<GanttEntry> getGanttChart() { return ganttChart; }
-        public Metrics getMetrics() { return metrics; }
+    static SimulationResult schedule(Workload workload, int quantum) {
+        return run(new ScheduleStepper(workload, quantum));
     }
 
-    // -----------------------------
-    // Private helper: Circular linked list queue for Process
-    // -----------------------------
-    private static class CircularProcessQueue {
-        private Node tail; // tail.next == head
+    private static SimulationResult run(ScheduleStepper stepper) {
+        while (stepper.advance()) {
+            // slices are recorded by the stepper
+        }
+        return stepper.toResult();
+    }
 
-        private static class Node {
-            Process process;
-            Node next;
-            Node(Process p) { this.process = p; }
+    /**
+     * A workload copied into columns, indexed by handle.
+     */
+    record Workload(String[] ids, int[] arrivals, int[] bursts) {
+
+        int size() { return ids.length; }
+
+        static Workload of(List<Process> processes) {
+            int n = processes.size();
+            String[] ids = new String[n];
+            int[] arrivals = new int[n];
+            int[] bursts = new int[n];
+            for (int i = 0; i < n; i++) {
+                Process p = processes.get(i);
+                ids[i] = p.getProcessId();
+                arrivals[i] = p.getArrivalTime();
+                bursts[i] = p.getBurstTime();
+            }
+            return new Workload(ids, arrivals, bursts);
         }
 
-        boolean isEmpty() {
-            return tail == null;
+        static Workload of(WorkloadRegistry registry) {
+            int n = registry.size();
+            String[] ids = new String[n];
+            int[] arrivals = new int[n];
+            int[] bursts = new int[n];
+            for (int handle = 0; handle < n; handle++) {
+                ids[handle] = registry.getProcessId(handle);
+                arrivals[handle] = registry.getArrivalTime(handle);
+                bursts[handle] = registry.getBurstTime(handle);
+            }
+            return new Workload(ids, arrivals, bursts);
         }
+    }
 
-        void add(Process p) {
-            if (p == null) return;
-            Node node = new Node(p);
-            if (tail == null) {
-                tail = node;
-                tail.next = tail;
-            } else {
-                node.next = tail.next; // node -> head
-                tail.next = node;
-                tail = node; // new tail
+    /**
+     * Simulation result inner class. Per-process results and Gantt slices are held as primitive columns;
+     * {@link #getProcesses()} and {@link #getGanttChart()} are read-only views that build a {@link Process}
+     * or {@link GanttEntry} for each element as it is read, so nothing object-heavy stays reachable from the result.
+     */
+    public static class SimulationResult {
+        private static final int IDLE_ROW = -1;
+
+        private final ProcessColumns processes;
+        private final int[] entryRows; // row in processes, IDLE_ROW for idle time
+        private final int[] entryStarts;
+        private final int[] entryEnds;
+        private final Metrics metrics;
+
+        public SimulationResult(List<Process> processes, List<GanttEntry> ganttChart, Metrics metrics) {
+            this.processes = ProcessColumns.fromProcesses(processes);
+            this.metrics = metrics;
+
+            Map<String, Integer> rows = new HashMap<>(processes.size() * 2);
+            for (int row = 0; row < processes.size(); row++) {
+                rows.putIfAbsent(processes.get(row).getProcessId(), row);
+            }
+            int count = ganttChart.size();
+            entryRows = new int[count];
+            entryStarts = new int[count];
+            entryEnds = new int[count];
+            for (int i = 0; i < count; i++) {
+                GanttEntry entry = ganttChart.get(i);
+                Integer row = rows.get(entry.getProcessId());
+                if (row == null && !"IDLE".equals(entry.getProcessId())) {
+                    throw new IllegalArgumentException("Gantt entry for unknown process " + entry.getProcessId());
+                }
+                entryRows[i] = row == null ? IDLE_ROW : row;
+                entryStarts[i] = entry.getStartTime();
+                entryEnds[i] = entry.getEndTime();
             }
         }
 
         /**
-         * Remove and return head (the process at front), or null if empty.
+         * Columns are taken as-is; entry arrays must have equal length and rows must index {@code processes} or be -1.
          */
-        Process poll() {
-            if (tail == null) return null;
-            Node head = tail.next;
-            Process p = head.process;
-            if (head == tail) { // only one element
-                tail = null;
-            } else {
-                tail.next = head.next; // remove head
+        SimulationResult(ProcessColumns processes, int[] entryRows, int[] entryStarts, int[] entryEnds, Metrics metrics) {
+            if (entryStarts.length != entryRows.length || entryEnds.length != entryRows.length) {
+                throw new IllegalArgumentException("Column lengths differ");
             }
-            return p;
+            this.processes = processes;
+            this.entryRows = entryRows;
+            this.entryStarts = entryStarts;
+            this.entryEnds = entryEnds;
+            this.metrics = metrics;
         }
 
-        /**
-         * Return true if a process with same processId exists in queue.
-         */
-        boolean contains(Process p) {
-            if (p == null || tail == null) return false;
-            String pid = p.getProcessId();
-            Node cur = tail.next;
-            do {
-                if (cur.process != null && pid != null && pid.equals(cur.process.getProcessId())) {
-                    return true;
-                }
-                cur = cur.next;
-            } while (cur != tail.next);
-            return false;
+        public List<Process> getProcesses() {
+            return new AbstractList<>() {
+                @Override
+                public Process get(int index) { return processes.toProcess(index); }
+
+                @Override
+                public int size() { return processes.size(); }
+            };
         }
 
-        /**
-         * Clear queue.
-         */
-        void clear() {
-            tail = null;
+        public List<GanttEntry> getGanttChart() {
+            return new AbstractList<>() {
+                @Override
+                public GanttEntry get(int index) {
+                    return new GanttEntry(getEntryProcessId(index), entryStarts[index], entryEnds[index]);
+                }
+
+                @Override
+                public int size() { return entryRows.length; }
+            };
         }
 
+        public Metrics getMetrics() { return metrics; }
+
+        public ProcessColumns getProcessColumns() { return processes; }
+
+        public int getGanttEntryCount() { return entryRows.length; }
+
         /**
-         * Count nodes in queue.
+         * Row in {@link #getProcessColumns()} that ran in an entry, or -1 for idle time.
          */
-        int size() {
-            if (tail == null) return 0;
-            int cnt = 0;
-            Node cur = tail.next;
-            do {
-                cnt++;
-                cur = cur.next;
-            } while (cur != tail.next);
-            return cnt;
+        public int getEntryRow(int index) { return entryRows[index]; }
+        public int getEntryStart(int index) { return entryStarts[index]; }
+        public int getEntryEnd(int index) { return entryEnds[index]; }
+
+        // Raw slice columns for bulk readers in this package; not to be modified
+        int[] entryRows() { return entryRows; }
+        int[] entryStarts() { return entryStarts; }
+        int[] entryEnds() { return entryEnds; }
+
+        public String getEntryProcessId(int index) {
+            int row = entryRows[index];
+            return row == IDLE_ROW ? "IDLE" : processes.getProcessId(row);
         }
     }
 }
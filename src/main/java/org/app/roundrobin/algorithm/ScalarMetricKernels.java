@@ -0,0 +1,40 @@
+package org.app.roundrobin.algorithm;
+
+/**
+ * One row at a time; also finishes the rows left over after the last full vector.
+ */
+final class ScalarMetricKernels implements MetricKernels {
+
+    @Override
+    public long accumulate(int[] arrivals, int[] bursts, int[] completions, int length, Moments turnaround,
+                           Moments waiting) {
+        return accumulate(arrivals, bursts, completions, 0, length, turnaround, waiting);
+    }
+
+    @Override
+    public long busyTime(int[] rows, int[] starts, int[] ends, int length) {
+        return busyTime(rows, starts, ends, 0, length);
+    }
+
+    static long accumulate(int[] arrivals, int[] bursts, int[] completions, int from, int to, Moments turnaround,
+                           Moments waiting) {
+        long burstSum = 0;
+        for (int i = from; i < to; i++) {
+            int t = completions[i] - arrivals[i];
+            turnaround.add(t);
+            waiting.add(t - bursts[i]);
+            burstSum += bursts[i];
+        }
+        return burstSum;
+    }
+
+    static long busyTime(int[] rows, int[] starts, int[] ends, int from, int to) {
+        long busy = 0;
+        for (int i = from; i < to; i++) {
+            if (rows[i] >= 0) {
+                busy += ends[i] - starts[i];
+            }
+        }
+        return busy;
+    }
+}
@@ -0,0 +1,22 @@
+package org.app.roundrobin.algorithm;
+
+/**
+ * Receives every scheduling decision as it is made, as plain ints so the scheduling loop allocates nothing.
+ * Events arrive in decision order; within one slice that is DISPATCH, the arrivals admitted during it,
+ * then PREEMPT or COMPLETE, so timestamps are not strictly increasing.
+ */
+public interface ScheduleEventSink {
+
+    /** time = arrival time, aux = burst time. */
+    int ARRIVAL = 1;
+    /** time = slice start, aux = slice end. */
+    int DISPATCH = 2;
+    /** time = slice end, aux = remaining burst. */
+    int PREEMPT = 3;
+    /** time = completion time, aux = turnaround time. */
+    int COMPLETE = 4;
+    /** time = idle start, aux = idle end; handle is -1. */
+    int IDLE = 5;
+
+    void event(int type, int time, int handle, int aux);
+}
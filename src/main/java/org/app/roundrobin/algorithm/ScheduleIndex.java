@@ -0,0 +1,221 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Time and per-process queries over a {@link RoundRobinScheduler.SimulationResult} in logarithmic time.
+ * <p>
+ * Slices come in time order, so both their starts and their ends are sorted and a point or range query is a
+ * binary search over the result's own columns. A counting sort by row groups each process's slice indexes
+ * (still in time order) behind an offset per row, and sorted arrival and leave times count the processes
+ * in the system at any time. Slices are referred to by their index in the result.
+ */
+public final class ScheduleIndex {
+
+    private final RoundRobinScheduler.SimulationResult result;
+    private final int sliceCount;
+
+    // Slices of row r (IDLE excluded) are processSlices[rowOffsets[r] .. rowOffsets[r + 1])
+    private final int[] rowOffsets;
+    private final int[] processSlices;
+
+    // Sorted arrival and leave (max of arrival and completion) times
+    private final int[] arrivals;
+    private final int[] leaves;
+
+    private Map<String, Integer> rowsById;
+
+    public ScheduleIndex(RoundRobinScheduler.SimulationResult result) {
+        this.result = result;
+        this.sliceCount = result.getGanttEntryCount();
+        ProcessColumns processes = result.getProcessColumns();
+        int rows = processes.size();
+
+        rowOffsets = new int[rows + 1];
+        for (int slice = 0; slice < sliceCount; slice++) {
+            if (slice > 0 && (result.getEntryStart(slice) < result.getEntryStart(slice - 1)
+                    || result.getEntryEnd(slice) < result.getEntryEnd(slice - 1))) {
+                throw new IllegalArgumentException("Gantt slices are not in time order at " + slice);
+            }
+            int row = result.getEntryRow(slice);
+            if (row >= 0) {
+                rowOffsets[row + 1]++;
+            }
+        }
+        for (int row = 0; row < rows; row++) {
+            rowOffsets[row + 1] += rowOffsets[row];
+        }
+        processSlices = new int[rowOffsets[rows]];
+        int[] next = Arrays.copyOf(rowOffsets, rows);
+        for (int slice = 0; slice < sliceCount; slice++) {
+            int row = result.getEntryRow(slice);
+            if (row >= 0) {
+                processSlices[next[row]++] = slice;
+            }
+        }
+
+        arrivals = new int[rows];
+        leaves = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            arrivals[row] = processes.getArrivalTime(row);
+            leaves[row] = Math.max(arrivals[row], processes.getCompletionTime(row));
+        }
+        Arrays.parallelSort(arrivals);
+        Arrays.parallelSort(leaves);
+    }
+
+    public RoundRobinScheduler.SimulationResult getResult() { return result; }
+
+    /**
+     * Slice covering {@code time} ({@code start <= time < end}), IDLE included, or -1 outside the schedule.
+     */
+    public int sliceAt(int time) {
+        int slice = firstEndingAfter(time);
+        return slice < sliceCount && result.getEntryStart(slice) <= time ? slice : -1;
+    }
+
+    /**
+     * Row of the process on the CPU at {@code time}, or -1 if the CPU is idle or the schedule is over.
+     */
+    public int rowAt(int time) {
+        int slice = sliceAt(time);
+        return slice < 0 ? -1 : result.getEntryRow(slice);
+    }
+
+    /**
+     * Slices overlapping {@code [from, to)}, in time order.
+     */
+    public int[] slicesBetween(int from, int to) {
+        int first = firstEndingAfter(from);
+        int last = Math.max(first, firstStartingAtOrAfter(to));
+        int[] slices = new int[last - first];
+        for (int i = 0; i < slices.length; i++) {
+            slices[i] = first + i;
+        }
+        return slices;
+    }
+
+    public int sliceCount(int row) {
+        return rowOffsets[row + 1] - rowOffsets[row];
+    }
+
+    /**
+     * The {@code k}-th slice of a process, counting from 0 in time order.
+     */
+    public int slice(int row, int k) {
+        if (k < 0 || k >= sliceCount(row)) {
+            throw new IndexOutOfBoundsException("Slice " + k + " of row " + row);
+        }
+        return processSlices[rowOffsets[row] + k];
+    }
+
+    /**
+     * Position of {@code slice} among its process's slices (0 for the first), or -1 for an IDLE slice.
+     */
+    public int positionOf(int slice) {
+        int row = result.getEntryRow(slice);
+        if (row < 0) {
+            return -1;
+        }
+        int lo = rowOffsets[row];
+        int hi = rowOffsets[row + 1];
+        return Arrays.binarySearch(processSlices, lo, hi, slice) - lo;
+    }
+
+    /**
+     * A process's slices overlapping {@code [from, to)}, in time order.
+     */
+    public int[] slicesBetween(int row, int from, int to) {
+        int lo = rowOffsets[row];
+        int hi = rowOffsets[row + 1];
+
+        int first = lo;
+        for (int end = hi; first < end; ) {
+            int mid = (first + end) >>> 1;
+            if (result.getEntryEnd(processSlices[mid]) <= from) {
+                first = mid + 1;
+            } else {
+                end = mid;
+            }
+        }
+        int last = first;
+        for (int end = hi; last < end; ) {
+            int mid = (last + end) >>> 1;
+            if (result.getEntryStart(processSlices[mid]) < to) {
+                last = mid + 1;
+            } else {
+                end = mid;
+            }
+        }
+        return Arrays.copyOfRange(processSlices, first, last);
+    }
+
+    /**
+     * Processes in the system at {@code time} (arrived, not yet completed) other than the one running.
+     */
+    public int waitingAt(int time) {
+        int inSystem = countAtOrBefore(arrivals, time) - countAtOrBefore(leaves, time);
+        return rowAt(time) >= 0 ? inSystem - 1 : inSystem;
+    }
+
+    /**
+     * Row of the first process with this ID, or -1. The ID map is built on first use.
+     */
+    public int rowOf(String processId) {
+        if (rowsById == null) {
+            ProcessColumns processes = result.getProcessColumns();
+            Map<String, Integer> rows = new HashMap<>(processes.size() * 2);
+            for (int row = processes.size() - 1; row >= 0; row--) {
+                rows.put(processes.getProcessId(row), row);
+            }
+            rowsById = rows;
+        }
+        return rowsById.getOrDefault(processId, -1);
+    }
+
+    private int firstEndingAfter(int time) {
+        int lo = 0;
+        int hi = sliceCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (result.getEntryEnd(mid) <= time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int firstStartingAtOrAfter(int time) {
+        int lo = 0;
+        int hi = sliceCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (result.getEntryStart(mid) < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int countAtOrBefore(int[] sorted, int time) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
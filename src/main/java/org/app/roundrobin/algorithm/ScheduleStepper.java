@@ -0,0 +1,393 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.util.Arrays;
+
+/**
+ * Round Robin scheduling state advanced one Gantt slice at a time.
+ * Processes are int handles (indexes into the given columns). The ready queue is a ring of handles:
+ * a process is either running or queued at most once, so n slots suffice.
+ * Slices are recorded as they are produced, so the finished schedule becomes a columnar result directly.
+ * {@link RoundRobinScheduler} drives this to completion; playback pulls slices as it animates.
+ */
+public class ScheduleStepper {
+
+    private static final int IDLE = -1;
+
+    // Set by reset(); the arrays may be longer than totalProcesses when a SchedulerEngine reuses them
+    private String[] ids;
+    private int[] arrivals;
+    private int[] bursts;
+    private int quantum;
+    private int totalProcesses;
+
+    private int[] order = new int[0];
+    private long[] packedOrder = new long[0];
+    private long[] sortScratch; // only allocated once an unordered workload is reset
+    private int[] remaining = new int[0];
+    private int[] completion = new int[0];
+    private int[] ring = new int[0];
+    private int[] rowOfHandle = new int[0];
+    private int lastOrderedCount = -1;
+    private int head;
+    private int queued;
+
+    private int currentTime;
+    private int nextProcessIndex;
+    private int completedProcesses;
+    private long busyTime;
+    private long totalTurnaroundTime;
+    private long totalWaitingTime;
+    private boolean finished;
+    private int projectedEndTime;
+
+    // Every slice produced so far, as columns; IDLE marks idle time
+    private int[] sliceHandles = new int[16];
+    private int[] sliceStarts = new int[16];
+    private int[] sliceEnds = new int[16];
+    private int sliceCount;
+    private int lastSliceHandle;
+    private int lastSliceStart;
+    private int lastSliceEnd;
+    // False when only completions and metrics are wanted: slices are produced but not kept
+    private final boolean recordSlices;
+
+    // Optional observer of every scheduling decision; null costs one branch per event
+    private final ScheduleEventSink sink;
+
+    ScheduleStepper(RoundRobinScheduler.Workload workload, int quantum) {
+        this(workload, quantum, null);
+    }
+
+    ScheduleStepper(RoundRobinScheduler.Workload workload, int quantum, ScheduleEventSink sink) {
+        this(workload, quantum, sink, true);
+    }
+
+    ScheduleStepper(RoundRobinScheduler.Workload workload, int quantum, ScheduleEventSink sink, boolean recordSlices) {
+        this.sink = sink;
+        this.recordSlices = recordSlices;
+        reset(workload.ids(), workload.arrivals(), workload.bursts(), workload.size(), quantum);
+    }
+
+    /**
+     * An idle stepper for {@link SchedulerEngine}, which {@link #reset}s it for every run.
+     */
+    ScheduleStepper() {
+        this(true);
+    }
+
+    /**
+     * An idle stepper to be {@link #reset} for every run; without slices, IDs are never read and may be null.
+     */
+    ScheduleStepper(boolean recordSlices) {
+        this.sink = null;
+        this.recordSlices = recordSlices;
+    }
+
+    /**
+     * Start over on the first {@code count} processes of the given columns, keeping every buffer that is
+     * already large enough.
+     */
+    void reset(String[] ids, int[] arrivals, int[] bursts, int count, int quantum) {
+        reset(ids, arrivals, bursts, count, quantum, false);
+    }
+
+    /**
+     * As {@link #reset(String[], int[], int[], int, int)}; with {@code sameArrivals}, the caller vouches that
+     * the arrivals are those of the previous reset, and their arrival order is reused instead of sorted again.
+     */
+    void reset(String[] ids, int[] arrivals, int[] bursts, int count, int quantum, boolean sameArrivals) {
+        this.ids = ids;
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+        this.quantum = quantum;
+        this.totalProcesses = count;
+        if (sameArrivals && count != lastOrderedCount) {
+            throw new IllegalStateException("Arrival order is for " + lastOrderedCount + " processes, not " + count);
+        }
+        if (order.length < count) {
+            int capacity = Math.max(count, order.length + (order.length >> 1));
+            order = new int[capacity];
+            packedOrder = new long[capacity];
+            remaining = new int[capacity];
+            completion = new int[capacity];
+            ring = new int[capacity];
+        }
+        if (!sameArrivals) {
+            sortScratch = arrivalOrder(arrivals, count, packedOrder, sortScratch, order);
+            lastOrderedCount = count;
+        }
+        System.arraycopy(bursts, 0, remaining, 0, count);
+        Arrays.fill(completion, 0, count, 0);
+        head = 0;
+        queued = 0;
+        currentTime = 0;
+        nextProcessIndex = 0;
+        completedProcesses = 0;
+        busyTime = 0;
+        totalTurnaroundTime = 0;
+        totalWaitingTime = 0;
+        finished = false;
+        sliceCount = 0;
+        lastSliceHandle = 0;
+        lastSliceStart = 0;
+        lastSliceEnd = 0;
+        projectedEndTime = workConservingEndTime();
+
+        // Add first arriving processes to ready queue
+        admitArrivals(false);
+    }
+
+    /**
+     * Next slice of the schedule (a process or IDLE), or null once every process has completed.
+     */
+    public GanttEntry next() {
+        if (!advance()) {
+            return null;
+        }
+        return new GanttEntry(lastSliceHandle == IDLE ? "IDLE" : ids[lastSliceHandle], lastSliceStart, lastSliceEnd);
+    }
+
+    /**
+     * Produce the rest of the schedule at once.
+     */
+    public void finish() {
+        while (advance()) {
+            // slices are recorded by the stepper
+        }
+    }
+
+    /**
+     * {@link #finish()}, checking every few thousand slices whether the thread was interrupted,
+     * so a run that has been superseded can be cancelled.
+     */
+    public void finishInterruptibly() throws InterruptedException {
+        int slices = 0;
+        while (advance()) {
+            if ((++slices & 4095) == 0 && Thread.interrupted()) {
+                throw new InterruptedException("Schedule cancelled");
+            }
+        }
+    }
+
+    /**
+     * Produce and record the next slice without building a {@link GanttEntry}; false once finished.
+     */
+    boolean advance() {
+        while (!finished && completedProcesses < totalProcesses) {
+            if (queued == 0) {
+                // No process ready: CPU idle until the next arrival, or stop if none is left
+                if (nextProcessIndex >= totalProcesses) {
+                    break;
+                }
+                int idleStart = currentTime;
+                int nextArrivalTime = arrivals[order[nextProcessIndex]];
+                if (nextArrivalTime > currentTime) {
+                    currentTime = nextArrivalTime;
+                }
+                admitArrivals(false);
+                if (currentTime > idleStart) {
+                    record(IDLE, idleStart, currentTime);
+                    if (sink != null) {
+                        sink.event(ScheduleEventSink.IDLE, idleStart, IDLE, currentTime);
+                    }
+                    return true;
+                }
+                continue;
+            }
+
+            int current = ring[head];
+            head = (head + 1) % totalProcesses;
+            queued--;
+
+            int executionTime = Math.min(remaining[current], quantum);
+            int startTime = currentTime;
+            currentTime += executionTime;
+            remaining[current] -= executionTime;
+            busyTime += executionTime;
+            if (sink != null) {
+                sink.event(ScheduleEventSink.DISPATCH, startTime, current, currentTime);
+            }
+
+            // Newly arrived processes queue ahead of the preempted one
+            admitArrivals(true);
+
+            if (remaining[current] == 0) {
+                completedProcesses++;
+                completion[current] = currentTime;
+                totalTurnaroundTime += currentTime - arrivals[current];
+                totalWaitingTime += currentTime - arrivals[current] - bursts[current];
+                if (sink != null) {
+                    sink.event(ScheduleEventSink.COMPLETE, currentTime, current, currentTime - arrivals[current]);
+                }
+            } else {
+                enqueue(current);
+                if (sink != null) {
+                    sink.event(ScheduleEventSink.PREEMPT, currentTime, current, remaining[current]);
+                }
+            }
+            record(current, startTime, currentTime);
+            return true;
+        }
+        finished = true;
+        return false;
+    }
+
+    public boolean isFinished() { return finished; }
+    public int getCurrentTime() { return currentTime; }
+    public int getProcessCount() { return totalProcesses; }
+    public int getCompletedCount() { return completedProcesses; }
+
+    /**
+     * Time the schedule ends, known up front: any work-conserving schedule of the same workload ends together.
+     */
+    public int getProjectedEndTime() { return projectedEndTime; }
+
+    public int readyQueueSize() { return queued; }
+
+    /**
+     * Process ID at a position in the ready queue, 0 being the next to run.
+     */
+    public String readyProcessId(int position) {
+        if (position < 0 || position >= queued) {
+            throw new IndexOutOfBoundsException("Ready queue position " + position);
+        }
+        return ids[ring[(head + position) % totalProcesses]];
+    }
+
+    /**
+     * Per-process results (in arrival order), the recorded slices and metrics, once finished.
+     */
+    public RoundRobinScheduler.SimulationResult toResult() {
+        if (!finished) {
+            throw new IllegalStateException("Schedule has not finished");
+        }
+        String[] rowIds = new String[totalProcesses];
+        int[] rowArrivals = new int[totalProcesses];
+        int[] rowBursts = new int[totalProcesses];
+        int[] rowCompletions = new int[totalProcesses];
+        if (rowOfHandle.length < totalProcesses) {
+            rowOfHandle = new int[totalProcesses];
+        }
+        for (int row = 0; row < totalProcesses; row++) {
+            int handle = order[row];
+            rowIds[row] = ids[handle];
+            rowArrivals[row] = arrivals[handle];
+            rowBursts[row] = bursts[handle];
+            rowCompletions[row] = completion[handle];
+            rowOfHandle[handle] = row;
+        }
+
+        int[] entryRows = new int[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            entryRows[i] = sliceHandles[i] == IDLE ? IDLE : rowOfHandle[sliceHandles[i]];
+        }
+
+        int totalTime = lastSliceEnd;
+        double cpuUtilization = totalTime > 0 ? (double) busyTime / totalTime * 100 : 0.0;
+        double throughput = totalTime > 0 ? (double) totalProcesses / totalTime : 0.0;
+        Metrics metrics = new Metrics((double) totalWaitingTime / totalProcesses,
+                (double) totalTurnaroundTime / totalProcesses, cpuUtilization,
+                throughput, totalProcesses, totalTime);
+
+        return new RoundRobinScheduler.SimulationResult(
+                new ProcessColumns(rowIds, rowArrivals, rowBursts, rowCompletions),
+                entryRows, Arrays.copyOf(sliceStarts, sliceCount), Arrays.copyOf(sliceEnds, sliceCount), metrics);
+    }
+
+    // Raw state for stitching several steppers' runs together (see BusyPeriodScheduler)
+    int sliceCount() { return sliceCount; }
+    int sliceHandle(int slice) { return sliceHandles[slice]; }
+    int sliceStart(int slice) { return sliceStarts[slice]; }
+    int sliceEnd(int slice) { return sliceEnds[slice]; }
+    int completionOf(int handle) { return completion[handle]; }
+    long totalWaitingTime() { return totalWaitingTime; }
+    long totalTurnaroundTime() { return totalTurnaroundTime; }
+    long busyTime() { return busyTime; }
+
+    private void record(int handle, int start, int end) {
+        lastSliceHandle = handle;
+        lastSliceStart = start;
+        lastSliceEnd = end;
+        if (!recordSlices) {
+            return;
+        }
+        if (sliceCount == sliceHandles.length) {
+            int grown = sliceHandles.length * 2;
+            sliceHandles = Arrays.copyOf(sliceHandles, grown);
+            sliceStarts = Arrays.copyOf(sliceStarts, grown);
+            sliceEnds = Arrays.copyOf(sliceEnds, grown);
+        }
+        sliceHandles[sliceCount] = handle;
+        sliceStarts[sliceCount] = start;
+        sliceEnds[sliceCount] = end;
+        sliceCount++;
+    }
+
+    /**
+     * Queue every process that has arrived by now. After a slice, processes with nothing to run are skipped.
+     */
+    private void admitArrivals(boolean skipEmpty) {
+        while (nextProcessIndex < totalProcesses && arrivals[order[nextProcessIndex]] <= currentTime) {
+            int arrived = order[nextProcessIndex++];
+            if (sink != null) {
+                sink.event(ScheduleEventSink.ARRIVAL, arrivals[arrived], arrived, bursts[arrived]);
+            }
+            if (!skipEmpty || remaining[arrived] > 0) {
+                enqueue(arrived);
+            }
+        }
+    }
+
+    private void enqueue(int handle) {
+        ring[(head + queued++) % totalProcesses] = handle;
+    }
+
+    private int workConservingEndTime() {
+        long end = 0;
+        for (int i = 0; i < totalProcesses; i++) {
+            int handle = order[i];
+            end = Math.max(end, arrivals[handle]) + bursts[handle];
+        }
+        return (int) Math.min(Integer.MAX_VALUE, end);
+    }
+
+    /**
+     * Handles sorted by arrival time, ties kept in input order: (arrival, handle) packed into one long.
+     */
+    static int[] arrivalOrder(int[] arrivals) {
+        int[] order = new int[arrivals.length];
+        arrivalOrder(arrivals, arrivals.length, new long[arrivals.length], null, order);
+        return order;
+    }
+
+    /**
+     * {@link #arrivalOrder(int[])} of the first {@code count} arrivals into {@code order}, using {@code packed}
+     * and {@code scratch} as scratch space. Input that is already in arrival order, the common case, is not
+     * sorted at all; anything else goes through {@link ArrivalSort}.
+     *
+     * @param scratch radix sort buffer, or null
+     * @return the radix sort buffer, grown if {@code scratch} was missing or too small
+     */
+    static long[] arrivalOrder(int[] arrivals, int count, long[] packed, long[] scratch, int[] order) {
+        boolean sorted = true;
+        for (int handle = 0; handle < count; handle++) {
+            packed[handle] = ((long) arrivals[handle] << 32) | handle;
+            sorted &= handle == 0 || packed[handle] > packed[handle - 1];
+        }
+        long[] result = packed;
+        if (!sorted) {
+            result = ArrivalSort.sort(packed, count, scratch);
+            if (result != packed) {
+                scratch = result;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            order[i] = (int) result[i];
+        }
+        return scratch;
+    }
+}
@@ -0,0 +1,100 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.Process;
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A reusable Round Robin scheduler for code that simulates over and over (sweeps, services). The engine owns
+ * its input columns and a {@link ScheduleStepper} whose sort, queue, per-process and slice buffers only ever
+ * grow; each run resets them instead of allocating. Once warmed up on workloads of a similar size, a run
+ * allocates nothing but the {@link RoundRobinScheduler.SimulationResult} it returns.
+ * <p>
+ * Each run compares the arrivals with the previous run's while copying them in; when they match, as in a
+ * quantum sweep over one workload, the arrival order is reused instead of sorted again.
+ * <p>
+ * Results are identical to {@link RoundRobinScheduler#schedule(List, int)}. An engine is not thread-safe:
+ * use one per thread, for example through {@link #forCurrentThread()}.
+ */
+public final class SchedulerEngine {
+
+    private static final ThreadLocal<SchedulerEngine> PER_THREAD = ThreadLocal.withInitial(SchedulerEngine::new);
+
+    private final ScheduleStepper stepper = new ScheduleStepper();
+    private String[] ids = new String[0];
+    private int[] arrivals = new int[0];
+    private int[] bursts = new int[0];
+    private int lastCount = -1;
+
+    /**
+     * This thread's engine. Virtual threads are short-lived, so they are better served by a pool of engines.
+     */
+    public static SchedulerEngine forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    public RoundRobinScheduler.SimulationResult schedule(List<Process> processes, int quantum) {
+        if (processes == null || processes.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        int n = processes.size();
+        boolean sameArrivals = ensureCapacity(n);
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            int arrival = p.getArrivalTime();
+            sameArrivals &= arrivals[i] == arrival;
+            ids[i] = p.getProcessId();
+            arrivals[i] = arrival;
+            bursts[i] = p.getBurstTime();
+        }
+        return run(n, quantum, sameArrivals);
+    }
+
+    public RoundRobinScheduler.SimulationResult schedule(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        int n = workload.size();
+        boolean sameArrivals = ensureCapacity(n);
+        for (int handle = 0; handle < n; handle++) {
+            int arrival = workload.getArrivalTime(handle);
+            sameArrivals &= arrivals[handle] == arrival;
+            ids[handle] = workload.getProcessId(handle);
+            arrivals[handle] = arrival;
+            bursts[handle] = workload.getBurstTime(handle);
+        }
+        return run(n, quantum, sameArrivals);
+    }
+
+    private RoundRobinScheduler.SimulationResult run(int n, int quantum, boolean sameArrivals) {
+        try {
+            stepper.reset(ids, arrivals, bursts, n, quantum, sameArrivals);
+            lastCount = n;
+            stepper.finish();
+            return stepper.toResult();
+        } finally {
+            // The result keeps the IDs it needs; the engine should not keep a whole workload reachable
+            Arrays.fill(ids, 0, n, null);
+        }
+    }
+
+    /**
+     * Grow the input columns to hold {@code n} processes.
+     *
+     * @return whether the arrivals still held may match the previous run's, which the copy then checks
+     */
+    private boolean ensureCapacity(int n) {
+        boolean reusable = n == lastCount;
+        lastCount = -1; // until the stepper has ordered the arrivals about to be copied in
+        if (ids.length < n) {
+            int capacity = Math.max(n, ids.length + (ids.length >> 1));
+            ids = new String[capacity];
+            arrivals = new int[capacity];
+            bursts = new int[capacity];
+            return false;
+        }
+        return reusable;
+    }
+}
@@ -0,0 +1,232 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.Process;
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memoized simulation results keyed by a SHA-256 of the workload in scheduling order, the quantum and the policy.
+ * Processes are hashed in stable arrival order, so workloads that schedule identically share a key
+ * regardless of how they were entered.
+ * <p>
+ * Results live in an LRU tier bounded by weight (processes + Gantt entries held). With a directory,
+ * results are also written to disk and survive restarts; a memory miss then falls back to the file.
+ * Cached results are shared between callers and must not be modified.
+ */
+public class SimulationCache {
+
+    public static final String POLICY_ROUND_ROBIN = "RR";
+
+    private static final String FILE_SUFFIX = ".rrs";
+
+    private final long maxWeight;
+    private final Path directory;
+    private final LinkedHashMap<String, RoundRobinScheduler.SimulationResult> memory =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long diskHits;
+    private long misses;
+
+    public SimulationCache(long maxWeight) {
+        this(maxWeight, null);
+    }
+
+    /**
+     * @param directory on-disk tier, or null for memory only
+     */
+    public SimulationCache(long maxWeight, Path directory) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.directory = directory;
+    }
+
+    public RoundRobinScheduler.SimulationResult schedule(WorkloadRegistry workload, int quantum) {
+        if (workload == null || workload.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return schedule(RoundRobinScheduler.Workload.of(workload), quantum);
+    }
+
+    public RoundRobinScheduler.SimulationResult schedule(List<Process> processes, int quantum) {
+        if (processes == null || processes.isEmpty() || quantum <= 0) {
+            throw new IllegalArgumentException("Invalid input parameters");
+        }
+        return schedule(RoundRobinScheduler.Workload.of(processes), quantum);
+    }
+
+    private RoundRobinScheduler.SimulationResult schedule(RoundRobinScheduler.Workload workload, int quantum) {
+        String key = key(workload, quantum, POLICY_ROUND_ROBIN);
+        RoundRobinScheduler.SimulationResult result = get(key);
+        if (result == null) {
+            // Computed outside the lock; a concurrent miss on the same key just computes it twice
+            result = BusyPeriodScheduler.schedule(workload, quantum);
+            put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Cached result for a key, from memory or disk, or null.
+     */
+    public RoundRobinScheduler.SimulationResult get(String key) {
+        synchronized (this) {
+            RoundRobinScheduler.SimulationResult result = memory.get(key);
+            if (result != null) {
+                hits++;
+                return result;
+            }
+        }
+        RoundRobinScheduler.SimulationResult result = readFromDisk(key);
+        synchronized (this) {
+            if (result == null) {
+                misses++;
+                return null;
+            }
+            diskHits++;
+            remember(key, result);
+            return result;
+        }
+    }
+
+    public void put(String key, RoundRobinScheduler.SimulationResult result) {
+        synchronized (this) {
+            remember(key, result);
+        }
+        writeToDisk(key, result);
+    }
+
+    public synchronized void clearMemory() {
+        memory.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() { return memory.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getDiskHits() { return diskHits; }
+    public synchronized long getMisses() { return misses; }
+
+    public static String key(List<Process> processes, int quantum, String policy) {
+        return key(RoundRobinScheduler.Workload.of(processes), quantum, policy);
+    }
+
+    public static String key(WorkloadRegistry workload, int quantum, String policy) {
+        return key(RoundRobinScheduler.Workload.of(workload), quantum, policy);
+    }
+
+    static String key(RoundRobinScheduler.Workload workload, int quantum, String policy) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        byte[] policyBytes = policy.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(policyBytes.length).put(policyBytes).putInt(quantum).putInt(workload.size());
+
+        for (int handle : ScheduleStepper.arrivalOrder(workload.arrivals())) {
+            byte[] id = workload.ids()[handle].getBytes(StandardCharsets.UTF_8);
+            if (buffer.remaining() < id.length + 12) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            buffer.putInt(id.length);
+            if (buffer.remaining() < id.length + 8) {
+                // ID longer than the buffer
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+                digest.update(id);
+            } else {
+                buffer.put(id);
+            }
+            buffer.putInt(workload.arrivals()[handle]).putInt(workload.bursts()[handle]);
+        }
+        buffer.flip();
+        digest.update(buffer);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void remember(String key, RoundRobinScheduler.SimulationResult result) {
+        RoundRobinScheduler.SimulationResult previous = memory.put(key, result);
+        if (previous != null) {
+            weight -= weightOf(previous);
+        }
+        weight += weightOf(result);
+
+        // Evict least recently used, but always keep the newest result
+        Iterator<Map.Entry<String, RoundRobinScheduler.SimulationResult>> eldest = memory.entrySet().iterator();
+        while (weight > maxWeight && memory.size() > 1) {
+            Map.Entry<String, RoundRobinScheduler.SimulationResult> entry = eldest.next();
+            weight -= weightOf(entry.getValue());
+            eldest.remove();
+        }
+    }
+
+    private static long weightOf(RoundRobinScheduler.SimulationResult result) {
+        return (long) result.getProcessColumns().size() + result.getGanttEntryCount();
+    }
+
+    private RoundRobinScheduler.SimulationResult readFromDisk(String key) {
+        if (directory == null) {
+            return null;
+        }
+        Path file = directory.resolve(key + FILE_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            return SimulationResultCodec.read(in);
+        } catch (IOException e) {
+            System.err.println("Discarding unreadable cached result " + file + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // Next write replaces it
+            }
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, RoundRobinScheduler.SimulationResult result) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            // Write beside the target and move into place so readers never see a partial file
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+                SimulationResultCodec.write(result, out);
+            }
+            Files.move(temp, directory.resolve(key + FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Error writing cached result: " + e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
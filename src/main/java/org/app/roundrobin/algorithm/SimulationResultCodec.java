@@ -0,0 +1,92 @@
+package org.app.roundrobin.algorithm;
+
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact binary form of a {@link RoundRobinScheduler.SimulationResult}, written straight from its columns.
+ * Process IDs are written once; Gantt entries refer to them by row (-1 for IDLE).
+ */
+public final class SimulationResultCodec {
+
+    private static final int MAGIC = 0x52525332; // "RRS2"
+    private static final int IDLE_ROW = -1;
+
+    private SimulationResultCodec() {
+    }
+
+    public static void write(RoundRobinScheduler.SimulationResult result, DataOutput out) throws IOException {
+        ProcessColumns processes = result.getProcessColumns();
+        Metrics metrics = result.getMetrics();
+
+        out.writeInt(MAGIC);
+        out.writeInt(processes.size());
+        for (int row = 0; row < processes.size(); row++) {
+            out.writeUTF(processes.getProcessId(row));
+            out.writeInt(processes.getArrivalTime(row));
+            out.writeInt(processes.getBurstTime(row));
+            out.writeInt(processes.getCompletionTime(row));
+        }
+
+        int entryCount = result.getGanttEntryCount();
+        out.writeInt(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            out.writeInt(result.getEntryRow(i));
+            out.writeInt(result.getEntryStart(i));
+            out.writeInt(result.getEntryEnd(i));
+        }
+
+        out.writeDouble(metrics.getAvgWaitingTime());
+        out.writeDouble(metrics.getAvgTurnaroundTime());
+        out.writeDouble(metrics.getCpuUtilization());
+        out.writeDouble(metrics.getThroughput());
+        out.writeInt(metrics.getTotalProcesses());
+        out.writeInt(metrics.getTotalTime());
+    }
+
+    public static RoundRobinScheduler.SimulationResult read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an encoded simulation result");
+        }
+        int processCount = checkCount(in.readInt());
+        String[] ids = new String[processCount];
+        int[] arrivals = new int[processCount];
+        int[] bursts = new int[processCount];
+        int[] completions = new int[processCount];
+        for (int row = 0; row < processCount; row++) {
+            ids[row] = in.readUTF();
+            arrivals[row] = in.readInt();
+            bursts[row] = in.readInt();
+            completions[row] = in.readInt();
+        }
+
+        int entryCount = checkCount(in.readInt());
+        int[] rows = new int[entryCount];
+        int[] starts = new int[entryCount];
+        int[] ends = new int[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            rows[i] = in.readInt();
+            if (rows[i] < IDLE_ROW || rows[i] >= processCount) {
+                throw new IOException("Corrupt Gantt entry");
+            }
+            starts[i] = in.readInt();
+            ends[i] = in.readInt();
+        }
+
+        Metrics metrics = new Metrics(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                in.readInt(), in.readInt());
+        return new RoundRobinScheduler.SimulationResult(new ProcessColumns(ids, arrivals, bursts, completions),
+                rows, starts, ends, metrics);
+    }
+
+    private static int checkCount(int count) throws IOException {
+        if (count < 0) {
+            throw new IOException("Corrupt count " + count);
+        }
+        return count;
+    }
+}
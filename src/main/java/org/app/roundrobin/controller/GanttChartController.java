@@ -1,44 +1,132 @@
 package org.app.roundrobin.controller;
 
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Slider;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 import javafx.scene.text.FontWeight;
 import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.WritableImage;
-import javax.imageio.ImageIO;
+import javafx.util.Duration;
 import java.io.File;
-import java.io.IOException;
-import java.awt.image.BufferedImage;
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.ScheduleIndex;
+import org.app.roundrobin.algorithm.ScheduleStepper;
 import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.render.GanttLanes;
+import org.app.roundrobin.render.GanttRasterRenderer;
 import org.app.roundrobin.utils.Constants;
+import org.app.roundrobin.utils.PngStreamWriter;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 public class GanttChartController {
 
     private Canvas canvas;
+    private ImageView rasterView;
     private ScrollPane scrollPane;
+    private ScrollBar laneScrollBar;
+    private CheckBox groupLanesBox;
+    private Spinner<Integer> groupPrefixSpinner;
     private VBox container;
-    private List<GanttEntry> currentGanttEntries;
+    private long renderGeneration;
+
+    // Lane layout: only rows firstRow .. firstRow + MAX_VISIBLE_LANES are laid out and drawn
+    private GanttLanes lanes;
+    private GanttLanes.View laneView;
+    private int firstRow;
+    private GanttRasterRenderer shownRenderer;
+    private double canvasScale; // pixels per time unit of the canvas chart
+
+    // Hover details: what the CPU was doing under the pointer (only when drawn from a result)
+    private ScheduleIndex scheduleIndex;
+    private Tooltip sliceTooltip;
+
+    // Playback: slices are pulled from the stepper as simulated time advances and painted onto
+    // playbackCanvas without clearing it, so each frame only draws what was appended
+    private Canvas playbackCanvas;
+    private Label readyQueueLabel;
+    private Slider playbackSpeedSlider;
+    private Label playbackSpeedLabel;
+    private AnimationTimer playbackTimer;
+    private ScheduleStepper playbackStepper;
+    private Consumer<RoundRobinScheduler.SimulationResult> playbackFinished;
+    private GanttEntry pendingSlice;
+    private double playbackTime;
+    private long lastFrameNanos;
+    private double playbackScale;
+    private int paintedToX; // pixel columns left of this are already painted
+    private final Map<String, Color> playbackColors = new HashMap<>();
 
     private static final int CANVAS_MARGIN = 80;
     private static final int BAR_HEIGHT = 50;
     private static final int BAR_SPACING = 15;
+    private static final int LANE_STRIDE = BAR_HEIGHT + BAR_SPACING;
     private static final int TIME_MARK_INTERVAL = 1;
     private static final int TEXT_OFFSET = 20;
     private static final int LEGEND_WIDTH = 200;
+    private static final int LEGEND_MAX_ITEMS = 12;
     private static final int MAX_CANVAS_WIDTH = 3000;
     private static final int MAX_CANVAS_HEIGHT = 2000;
     private static final int HEADER_HEIGHT = 120; // Increased header height
     private static final int GRAPH_START_OFFSET = 100; // Space between header and graph
 
+    private static final int MAX_VISIBLE_LANES = 8;
+    private static final int MAX_VISIBLE_RASTER_LANES = 16;
+    private static final int AUTO_GROUP_LANE_THRESHOLD = 200; // more lanes than this start grouped
+    private static final int DEFAULT_GROUP_PREFIX = 2;
+
+    // Image export is rendered in tiles and streamed row by row into the PNG encoder
+    private static final int EXPORT_TILE_SIZE = 2048;
+    private static final int EXPORT_STRIP_PIXEL_BUDGET = 8 * 1024 * 1024; // ints held per strip
+    private static final int MAX_EXPORT_DIMENSION = 1 << 18; // scene-graph tiles; wider charts are rasterized
+    private static final int MAX_EXPORT_WIDTH = EXPORT_STRIP_PIXEL_BUDGET; // one raster strip row fits the budget
+    private static final int EXPORT_UNIT_WIDTH = 40; // pixels per time unit at full resolution
+    private static final int EXPORT_CULL_PADDING = 60; // labels may spill past their bar
+
+    // Charts with at least this many entries are rasterized off the FX thread
+    private static final int RASTER_RENDER_THRESHOLD = 2000;
+
+    private static final int PLAYBACK_CANVAS_HEIGHT = 170;
+    private static final int PLAYBACK_BAR_Y = 50;
+    private static final int PLAYBACK_SLICES_PER_FRAME = 20_000; // keeps a frame well under 16 ms
+    private static final int PLAYBACK_READY_SHOWN = 12;
+    private static final int PLAYBACK_TIME_MARKS = 10;
+    private static final double DEFAULT_PLAYBACK_SPEED_EXP = 1; // 10^x time units per second
+
+    private static final ExecutorService RENDER_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "gantt-raster-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     public GanttChartController() {
         initializeComponents();
     }
@@ -46,6 +134,19 @@ public class GanttChartController {
     private void initializeComponents() {
         canvas = new Canvas(Constants.CANVAS_WIDTH, Constants.CANVAS_HEIGHT);
         canvas.setStyle("-fx-background-color: #ffffff; -fx-border-color: #2c3e50; -fx-border-width: 2; -fx-border-radius: 5;");
+        canvas.setOnScroll(this::handleLaneScroll);
+        canvas.setOnMouseClicked(this::handleLaneClick);
+        canvas.setOnMouseMoved(this::updateSliceTooltip);
+        canvas.setOnMouseExited(event -> sliceTooltip.hide());
+
+        rasterView = new ImageView();
+        rasterView.setOnScroll(this::handleLaneScroll);
+        rasterView.setOnMouseClicked(this::handleLaneClick);
+        rasterView.setOnMouseMoved(this::updateSliceTooltip);
+        rasterView.setOnMouseExited(event -> sliceTooltip.hide());
+
+        sliceTooltip = new Tooltip();
+        sliceTooltip.setShowDelay(Duration.ZERO);
 
         scrollPane = new ScrollPane(canvas);
         scrollPane.setFitToWidth(true);
@@ -53,31 +154,120 @@ public class GanttChartController {
         scrollPane.setStyle("-fx-background: #ecf0f1; -fx-border-color: #bdc3c7;");
         scrollPane.setPrefHeight(300);
 
-        container = new VBox();
-        container.getChildren().add(scrollPane);
-        container.setStyle("-fx-padding: 10; -fx-background-color: #ecf0f1;");
+        laneScrollBar = new ScrollBar();
+        laneScrollBar.setOrientation(Orientation.VERTICAL);
+        laneScrollBar.setUnitIncrement(1);
+        laneScrollBar.valueProperty().addListener((obs, oldValue, newValue) -> {
+            int row = (int) Math.round(newValue.doubleValue());
+            if (row != firstRow && laneView != null) {
+                firstRow = row;
+                redraw();
+            }
+        });
+        setLaneScrollBarShown(false);
+
+        groupLanesBox = new CheckBox("Group lanes by ID prefix");
+        groupPrefixSpinner = new Spinner<>(1, 16, DEFAULT_GROUP_PREFIX);
+        groupPrefixSpinner.setPrefWidth(70);
+        groupLanesBox.selectedProperty().addListener((obs, oldValue, newValue) -> applyLaneGrouping());
+        groupPrefixSpinner.valueProperty().addListener((obs, oldValue, newValue) -> {
+            if (groupLanesBox.isSelected()) {
+                applyLaneGrouping();
+            }
+        });
+
+        playbackCanvas = new Canvas(Constants.CANVAS_WIDTH, PLAYBACK_CANVAS_HEIGHT);
+        readyQueueLabel = new Label();
+        readyQueueLabel.setStyle("-fx-font-family: monospace;");
+        setReadyQueueShown(false);
+
+        // Logarithmic speed: slider value x plays 10^x time units per second
+        playbackSpeedSlider = new Slider(0, 6, DEFAULT_PLAYBACK_SPEED_EXP);
+        playbackSpeedSlider.setPrefWidth(140);
+        playbackSpeedLabel = new Label();
+        playbackSpeedSlider.valueProperty().addListener((obs, oldValue, newValue) -> updatePlaybackSpeedLabel());
+        updatePlaybackSpeedLabel();
+
+        playbackTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                advancePlayback(now);
+            }
+        };
+
+        HBox laneToolbar = new HBox(10, groupLanesBox, new Label("Prefix length:"), groupPrefixSpinner,
+                new Label("Playback speed:"), playbackSpeedSlider, playbackSpeedLabel);
+        laneToolbar.setAlignment(Pos.CENTER_LEFT);
+
+        HBox chartRow = new HBox(scrollPane, laneScrollBar);
+        HBox.setHgrow(scrollPane, Priority.ALWAYS);
 
-        currentGanttEntries = new ArrayList<>();
+        container = new VBox(5);
+        container.getChildren().addAll(laneToolbar, chartRow, readyQueueLabel);
+        container.setStyle("-fx-padding: 10; -fx-background-color: #ecf0f1;");
     }
 
     public Node createGanttChartNode() {
         return container;
     }
 
-    public void drawGanttChart(List<GanttEntry> ganttEntries) {
-        this.currentGanttEntries = new ArrayList<>(ganttEntries);
+    /**
+     * Draw a result's chart; hovering it shows the slice under the pointer and how many processes were waiting.
+     */
+    public void drawGanttChart(RoundRobinScheduler.SimulationResult result) {
+        if (result.getGanttEntryCount() == 0) {
+            clearChart();
+            return;
+        }
+        // Lanes read the result's slice columns directly; no GanttEntry objects are made for the chart
+        showLanes(new GanttLanes(result));
+        scheduleIndex = new ScheduleIndex(result);
+    }
 
+    public void drawGanttChart(List<GanttEntry> ganttEntries) {
         if (ganttEntries == null || ganttEntries.isEmpty()) {
             clearChart();
             return;
         }
+        showLanes(new GanttLanes(ganttEntries));
+    }
+
+    private void showLanes(GanttLanes chart) {
+        stopPlayback();
+        scheduleIndex = null;
+        sliceTooltip.hide();
+        renderGeneration++;
+
+        lanes = chart;
+        boolean group = lanes.laneCount() > AUTO_GROUP_LANE_THRESHOLD;
+        laneView = null; // keeps the grouping listener from rebuilding while the checkbox is synced
+        groupLanesBox.setSelected(group);
+        laneView = group ? lanes.groupedByPrefix(groupPrefixSpinner.getValue()) : lanes.ungrouped();
+        firstRow = 0;
+        updateLaneScrollBar();
+        redraw();
+    }
+
+    private void redraw() {
+        if (laneView == null) {
+            return;
+        }
+        renderGeneration++;
+        if (lanes.entryCount() >= RASTER_RENDER_THRESHOLD) {
+            drawRasterChart(laneView, firstRow);
+        } else {
+            drawCanvasChart();
+        }
+    }
 
+    private void drawCanvasChart() {
+        scrollPane.setContent(canvas);
+        shownRenderer = null;
         GraphicsContext gc = canvas.getGraphicsContext2D();
-        clearCanvas(gc);
 
-        int totalTime = ganttEntries.get(ganttEntries.size() - 1).getEndTime();
+        int totalTime = lanes.totalTime();
         int canvasWidth = calculateCanvasWidth(totalTime);
-        int canvasHeight = calculateCanvasHeight(ganttEntries);
+        int canvasHeight = calculateCanvasHeight(visibleRowCount());
 
         // Limit canvas size to prevent rendering issues
         canvasWidth = Math.min(canvasWidth, MAX_CANVAS_WIDTH);
@@ -85,8 +275,134 @@ public class GanttChartController {
 
         canvas.setWidth(canvasWidth);
         canvas.setHeight(canvasHeight);
+        clearCanvas(gc);
+
+        drawChart(gc, canvasWidth, canvasHeight, totalTime);
+    }
+
+    /**
+     * Rasterize the visible rows on the render thread and blit them into an image with one setPixels call.
+     * Results of superseded renders are dropped.
+     */
+    private void drawRasterChart(GanttLanes.View view, int fromRow) {
+        long generation = renderGeneration;
+        CompletableFuture
+                .supplyAsync(() -> {
+                    GanttRasterRenderer renderer = new GanttRasterRenderer(view, fromRow, MAX_VISIBLE_RASTER_LANES,
+                            MAX_CANVAS_WIDTH, MAX_CANVAS_HEIGHT);
+                    return new RasterFrame(renderer, renderer.render(true));
+                }, RENDER_EXECUTOR)
+                .thenAccept(frame -> Platform.runLater(() -> {
+                    if (generation != renderGeneration) {
+                        return;
+                    }
+                    int width = frame.renderer().getWidth();
+                    int height = frame.renderer().getHeight();
+                    WritableImage image = new WritableImage(width, height);
+                    image.getPixelWriter().setPixels(0, 0, width, height,
+                            PixelFormat.getIntArgbInstance(), frame.argb(), 0, width);
+                    rasterView.setImage(image);
+                    shownRenderer = frame.renderer();
+                    scrollPane.setContent(rasterView);
+                }))
+                .exceptionally(e -> {
+                    System.err.println("Error rendering Gantt chart: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    private record RasterFrame(GanttRasterRenderer renderer, int[] argb) { }
+
+    private int visibleRowCount() {
+        int maxRows = lanes.entryCount() >= RASTER_RENDER_THRESHOLD ? MAX_VISIBLE_RASTER_LANES : MAX_VISIBLE_LANES;
+        return laneView == null ? 0 : Math.min(laneView.rowCount(), maxRows);
+    }
+
+    private void applyLaneGrouping() {
+        if (laneView == null) {
+            return;
+        }
+        laneView = groupLanesBox.isSelected()
+                ? lanes.groupedByPrefix(groupPrefixSpinner.getValue())
+                : lanes.ungrouped();
+        firstRow = 0;
+        updateLaneScrollBar();
+        redraw();
+    }
+
+    private void updateLaneScrollBar() {
+        int rows = laneView == null ? 0 : laneView.rowCount();
+        int visible = visibleRowCount();
+        boolean needed = rows > visible;
+        setLaneScrollBarShown(needed);
+        if (!needed) {
+            firstRow = 0;
+            return;
+        }
+        firstRow = Math.min(firstRow, rows - visible);
+        laneScrollBar.setMax(rows - visible);
+        laneScrollBar.setVisibleAmount(Math.max(1.0, (double) visible * (rows - visible) / rows));
+        laneScrollBar.setBlockIncrement(visible);
+        laneScrollBar.setValue(firstRow);
+    }
+
+    private void setLaneScrollBarShown(boolean shown) {
+        laneScrollBar.setVisible(shown);
+        laneScrollBar.setManaged(shown);
+    }
+
+    private void handleLaneScroll(ScrollEvent event) {
+        if (!laneScrollBar.isVisible() || event.getDeltaY() == 0) {
+            return;
+        }
+        double step = event.getDeltaY() > 0 ? -1 : 1;
+        laneScrollBar.setValue(Math.max(0, Math.min(laneScrollBar.getMax(), laneScrollBar.getValue() + step)));
+        event.consume();
+    }
 
-        drawChart(gc, ganttEntries, canvasWidth, canvasHeight, totalTime);
+    /**
+     * Clicking a group row expands or collapses it.
+     */
+    private void handleLaneClick(MouseEvent event) {
+        if (laneView == null) {
+            return;
+        }
+        int row;
+        if (shownRenderer != null) {
+            row = shownRenderer.rowAt(event.getY());
+        } else {
+            int slot = (int) Math.floor((event.getY() - HEADER_HEIGHT - GRAPH_START_OFFSET) / LANE_STRIDE);
+            row = slot >= 0 && slot < visibleRowCount() ? firstRow + slot : -1;
+        }
+        if (row >= 0 && laneView.isGroupRow(row)) {
+            laneView = laneView.toggle(row);
+            updateLaneScrollBar();
+            redraw();
+        }
+    }
+
+    private void updateSliceTooltip(MouseEvent event) {
+        if (scheduleIndex == null || laneView == null) {
+            return;
+        }
+        double time = shownRenderer != null
+                ? shownRenderer.timeAt(event.getX())
+                : (event.getX() - CANVAS_MARGIN) / canvasScale;
+        int slice = time >= 0 ? scheduleIndex.sliceAt((int) Math.floor(time)) : -1;
+        if (slice < 0) {
+            sliceTooltip.hide();
+            return;
+        }
+        RoundRobinScheduler.SimulationResult result = scheduleIndex.getResult();
+        int t = (int) Math.floor(time);
+        int row = result.getEntryRow(slice);
+        String running = row < 0
+                ? "IDLE"
+                : result.getEntryProcessId(slice) + " (slice " + (scheduleIndex.positionOf(slice) + 1)
+                        + " of " + scheduleIndex.sliceCount(row) + ")";
+        sliceTooltip.setText("t = " + t + ": " + running + ", " + result.getEntryStart(slice) + "\u2013"
+                + result.getEntryEnd(slice) + "\n" + scheduleIndex.waitingAt(t) + " waiting");
+        sliceTooltip.show((Node) event.getSource(), event.getScreenX() + 12, event.getScreenY() + 12);
     }
 
     private int calculateCanvasWidth(int totalTime) {
@@ -95,46 +411,46 @@ public class GanttChartController {
         return calculatedWidth;
     }
 
-    private int calculateCanvasHeight(List<GanttEntry> entries) {
-        long uniqueProcesses = entries.stream()
-                .map(GanttEntry::getProcessId)
-                .distinct()
-                .count();
-
+    private int calculateCanvasHeight(int rows) {
         // Calculate height: Header + Graph offset + Process bars + Timeline space
         int headerSpace = HEADER_HEIGHT;
         int graphOffset = GRAPH_START_OFFSET;
-        int processBarsHeight = (int) (uniqueProcesses * (BAR_HEIGHT + BAR_SPACING));
+        long processBarsHeight = (long) rows * LANE_STRIDE;
         int timelineSpace = 100; // Space for timeline and labels
 
-        int totalHeight = headerSpace + graphOffset + processBarsHeight + timelineSpace;
+        long totalHeight = headerSpace + graphOffset + processBarsHeight + timelineSpace;
 
-        return Math.max(totalHeight, Constants.CANVAS_HEIGHT);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(totalHeight, Constants.CANVAS_HEIGHT));
     }
 
-    private void drawChart(GraphicsContext gc, List<GanttEntry> entries, int canvasWidth, int canvasHeight, int totalTime) {
+    private void drawChart(GraphicsContext gc, int canvasWidth, int canvasHeight, int totalTime) {
         gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
         gc.setTextAlign(TextAlignment.CENTER);
 
         // Adjust scale if canvas is too wide
         double availableWidth = Math.min(canvasWidth - 2 * CANVAS_MARGIN - LEGEND_WIDTH, MAX_CANVAS_WIDTH - 2 * CANVAS_MARGIN - LEGEND_WIDTH);
         double scale = availableWidth / (double) totalTime;
+        canvasScale = scale;
 
         // Draw header at the top with plenty of space
         drawHeader(gc, canvasWidth);
 
-        // Start the graph well below the header
+        // Start the graph well below the header; the timeline sits under the visible lanes
         int graphStartY = HEADER_HEIGHT + GRAPH_START_OFFSET;
+        int rows = visibleRowCount();
+        int timelineY = graphStartY + rows * LANE_STRIDE + 10;
 
-        drawTimeline(gc, totalTime, scale, graphStartY, canvasWidth);
-        drawGanttBars(gc, entries, scale, graphStartY, canvasWidth, canvasHeight);
-        drawTimeMarks(gc, totalTime, scale, graphStartY, canvasWidth);
-        drawLegend(gc, entries, canvasWidth, canvasHeight);
+        drawTimeline(gc, totalTime, scale, timelineY, canvasWidth);
+        drawGanttBars(gc, scale, graphStartY, timelineY, firstRow, rows);
+        drawTimeMarks(gc, totalTime, scale, timelineY, canvasWidth);
+        drawLegend(gc, canvasWidth, canvasHeight);
         drawAxisLabels(gc, canvasWidth, canvasHeight, graphStartY);
     }
 
-    // Separate method for drawing charts for image saving with better layout
-    private void drawChartForImage(GraphicsContext gc, List<GanttEntry> entries, int canvasWidth, int canvasHeight, int totalTime) {
+    // Separate method for drawing charts for image saving with better layout; every row is laid out.
+    // Only bars and time marks inside the clip rectangle are drawn (one export tile).
+    private void drawChartForImage(GraphicsContext gc, int canvasWidth, int canvasHeight, int totalTime,
+                                   double clipMinX, double clipMaxX, double clipMinY, double clipMaxY) {
         gc.setFont(Font.font("Arial", FontWeight.BOLD, 18)); // Larger font for image
         gc.setTextAlign(TextAlignment.CENTER);
 
@@ -147,11 +463,12 @@ public class GanttChartController {
 
         // Start the graph well below the header
         int graphStartY = HEADER_HEIGHT + GRAPH_START_OFFSET + 30; // Extra space for images
+        int timelineY = graphStartY + laneView.rowCount() * LANE_STRIDE + 15;
 
-        drawTimelineForImage(gc, totalTime, scale, graphStartY, canvasWidth);
-        drawGanttBarsForImage(gc, entries, scale, graphStartY, canvasWidth, canvasHeight);
-        drawTimeMarksForImage(gc, totalTime, scale, graphStartY, canvasWidth);
-        drawLegendForImage(gc, entries, canvasWidth, canvasHeight);
+        drawTimelineForImage(gc, totalTime, scale, timelineY, canvasWidth);
+        drawGanttBarsForImage(gc, scale, graphStartY, timelineY, clipMinX, clipMaxX, clipMinY, clipMaxY);
+        drawTimeMarksForImage(gc, totalTime, scale, timelineY, canvasWidth, clipMinX, clipMaxX);
+        drawLegendForImage(gc, canvasWidth, canvasHeight);
         drawAxisLabelsForImage(gc, canvasWidth, canvasHeight, graphStartY);
     }
 
@@ -161,7 +478,7 @@ public class GanttChartController {
         gc.fillText("ROUND ROBIN SCHEDULING - GANTT CHART", canvasWidth / 2, 50);
 
         // Add subtitle with simulation info
-        if (!currentGanttEntries.isEmpty()) {
+        if (!isChartEmpty()) {
             gc.setFont(Font.font("Arial", FontWeight.NORMAL, 12));
             gc.setFill(Color.web("#7f8c8d"));
             gc.fillText("Process execution timeline with time units", canvasWidth / 2, 70);
@@ -174,170 +491,172 @@ public class GanttChartController {
         gc.fillText("ROUND ROBIN SCHEDULING - GANTT CHART", canvasWidth / 2, 60);
 
         // Add subtitle with simulation info
-        if (!currentGanttEntries.isEmpty()) {
+        if (!isChartEmpty()) {
             gc.setFont(Font.font("Arial", FontWeight.NORMAL, 14));
             gc.setFill(Color.web("#7f8c8d"));
             gc.fillText("Process execution timeline with time units", canvasWidth / 2, 85);
         }
     }
 
-    private void drawTimeline(GraphicsContext gc, int totalTime, double scale, int graphStartY, int canvasWidth) {
+
+    private void drawTimeline(GraphicsContext gc, int totalTime, double scale, int timelineY, int canvasWidth) {
         gc.setStroke(Color.web("#34495e"));
         gc.setLineWidth(3);
-        int timelineY = graphStartY + BAR_HEIGHT + 40;
         double timelineEnd = CANVAS_MARGIN + totalTime * scale;
         gc.strokeLine(CANVAS_MARGIN, timelineY, timelineEnd, timelineY);
     }
 
-    private void drawTimelineForImage(GraphicsContext gc, int totalTime, double scale, int graphStartY, int canvasWidth) {
+    private void drawTimelineForImage(GraphicsContext gc, int totalTime, double scale, int timelineY, int canvasWidth) {
         gc.setStroke(Color.web("#34495e"));
         gc.setLineWidth(4); // Thicker line for image
-        int timelineY = graphStartY + BAR_HEIGHT + 50; // More space for image
         double timelineEnd = CANVAS_MARGIN + totalTime * scale;
         gc.strokeLine(CANVAS_MARGIN, timelineY, timelineEnd, timelineY);
     }
 
-    private void drawGanttBars(GraphicsContext gc, List<GanttEntry> entries, double scale, int graphStartY, int canvasWidth, int canvasHeight) {
-        List<String> uniqueProcesses = entries.stream()
-                .map(GanttEntry::getProcessId)
-                .distinct()
-                .toList();
-
-        int timelineY = graphStartY + BAR_HEIGHT + 40;
+    private void drawGanttBars(GraphicsContext gc, double scale, int graphStartY, int timelineY,
+                               int fromRow, int rowCount) {
+        for (int slot = 0; slot < rowCount; slot++) {
+            int row = fromRow + slot;
+            int barY = graphStartY + slot * LANE_STRIDE;
 
-        // Check if we have enough space below header
-        if (timelineY < HEADER_HEIGHT + GRAPH_START_OFFSET + 50) {
-            timelineY = HEADER_HEIGHT + GRAPH_START_OFFSET + 50;
-        }
-
-        for (GanttEntry entry : entries) {
-            int processIndex = uniqueProcesses.indexOf(entry.getProcessId());
-            int barY = timelineY - BAR_HEIGHT - 10 - (processIndex * (BAR_HEIGHT + BAR_SPACING));
-
-            // Ensure bars don't go above the header
-            if (barY < HEADER_HEIGHT + 20) {
-                barY = HEADER_HEIGHT + 20;
+            if (laneView.isGroupRow(row)) {
+                drawGroupOccupancy(gc, row, barY, scale, CANVAS_MARGIN, CANVAS_MARGIN + lanes.totalTime() * scale);
+                continue;
             }
 
-            double startX = CANVAS_MARGIN + entry.getStartTime() * scale;
-            double endX = CANVAS_MARGIN + entry.getEndTime() * scale;
-            double width = Math.max(endX - startX, 4);
+            int count = laneView.sliceCount(row);
+            for (int k = 0; k < count; k++) {
+                int entry = laneView.slice(row, k);
+                double startX = CANVAS_MARGIN + lanes.startTime(entry) * scale;
+                double endX = CANVAS_MARGIN + lanes.endTime(entry) * scale;
+                double width = Math.max(endX - startX, 4);
 
-            String colorHex = Constants.getProcessColor(entry.getProcessId());
-            Color barColor = Constants.hexToColor(colorHex);
-            Color darkerColor = barColor.darker();
+                String processId = lanes.laneId(lanes.laneOf(entry));
+                Color barColor = Constants.hexToColor(Constants.getProcessColor(processId));
 
-            gc.setFill(barColor);
-            gc.fillRoundRect(startX, barY, width, BAR_HEIGHT, 10, 10);
+                gc.setFill(barColor);
+                gc.fillRoundRect(startX, barY, width, BAR_HEIGHT, 10, 10);
 
-            gc.setStroke(darkerColor);
-            gc.setLineWidth(2);
-            gc.strokeRoundRect(startX, barY, width, BAR_HEIGHT, 10, 10);
+                gc.setStroke(barColor.darker());
+                gc.setLineWidth(2);
+                gc.strokeRoundRect(startX, barY, width, BAR_HEIGHT, 10, 10);
 
-            gc.setFill(Color.WHITE);
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
+                gc.setFill(Color.WHITE);
+                gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
 
-            double textX = startX + width / 2;
-            double textY = barY + BAR_HEIGHT / 2 + 4;
+                double textX = startX + width / 2;
+                double textY = barY + BAR_HEIGHT / 2 + 4;
 
-            if (width < 25) {
-                gc.setFont(Font.font("Arial", FontWeight.BOLD, 8));
-            }
+                if (width < 25) {
+                    gc.setFont(Font.font("Arial", FontWeight.BOLD, 8));
+                }
 
-            gc.fillText(entry.getProcessId(), textX, textY);
+                gc.fillText(processId, textX, textY);
 
-            if (width > 30) {
-                gc.setFill(Color.web("#2c3e50"));
-                gc.setFont(Font.font("Arial", FontWeight.NORMAL, 10));
-                gc.fillText(String.valueOf(entry.getDuration()), textX, barY - 5);
+                if (width > 30) {
+                    gc.setFill(Color.web("#2c3e50"));
+                    gc.setFont(Font.font("Arial", FontWeight.NORMAL, 10));
+                    gc.fillText(String.valueOf(lanes.endTime(entry) - lanes.startTime(entry)), textX, barY - 5);
+                }
             }
+        }
 
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
-
-            if (entry == entries.get(0)) {
-                drawTimeLabel(gc, entry.getStartTime(), startX, timelineY + TEXT_OFFSET);
-            }
-            drawTimeLabel(gc, entry.getEndTime(), endX, timelineY + TEXT_OFFSET);
+        // Time labels at slice boundaries, whichever lanes are scrolled into view
+        int firstStart = lanes.startTime(0);
+        drawTimeLabel(gc, firstStart, CANVAS_MARGIN + firstStart * scale, timelineY + TEXT_OFFSET);
+        for (int entry = 0; entry < lanes.entryCount(); entry++) {
+            int end = lanes.endTime(entry);
+            drawTimeLabel(gc, end, CANVAS_MARGIN + end * scale, timelineY + TEXT_OFFSET);
         }
 
         gc.setFill(Color.web("#2c3e50"));
         gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
         gc.setTextAlign(TextAlignment.RIGHT);
 
-        for (int i = 0; i < uniqueProcesses.size(); i++) {
-            String processId = uniqueProcesses.get(i);
-            int barY = timelineY - BAR_HEIGHT - 10 - (i * (BAR_HEIGHT + BAR_SPACING));
-            int textY = barY + BAR_HEIGHT / 2 + 4;
-
-            // Ensure process labels don't overlap with header
-            if (barY >= HEADER_HEIGHT + 20) {
-                gc.fillText("Process " + processId, CANVAS_MARGIN - 10, textY);
-            }
+        for (int slot = 0; slot < rowCount; slot++) {
+            int row = fromRow + slot;
+            int textY = graphStartY + slot * LANE_STRIDE + BAR_HEIGHT / 2 + 4;
+            gc.fillText(rowLabel(row), CANVAS_MARGIN - 10, textY);
         }
 
         gc.setTextAlign(TextAlignment.CENTER);
     }
 
-    private void drawGanttBarsForImage(GraphicsContext gc, List<GanttEntry> entries, double scale, int graphStartY, int canvasWidth, int canvasHeight) {
-        List<String> uniqueProcesses = entries.stream()
-                .map(GanttEntry::getProcessId)
-                .distinct()
-                .toList();
-
-        int timelineY = graphStartY + BAR_HEIGHT + 50;
-
-        for (GanttEntry entry : entries) {
-            int processIndex = uniqueProcesses.indexOf(entry.getProcessId());
-            int barY = timelineY - BAR_HEIGHT - 15 - (processIndex * (BAR_HEIGHT + BAR_SPACING));
+    private void drawGanttBarsForImage(GraphicsContext gc, double scale, int graphStartY, int timelineY,
+                                       double clipMinX, double clipMaxX, double clipMinY, double clipMaxY) {
+        double fromTime = (clipMinX - EXPORT_CULL_PADDING - CANVAS_MARGIN) / scale;
+        double toTime = (clipMaxX + EXPORT_CULL_PADDING - CANVAS_MARGIN) / scale;
 
-            // Ensure bars don't go above the header
-            if (barY < HEADER_HEIGHT + 30) {
-                barY = HEADER_HEIGHT + 30;
-            }
-
-            double startX = CANVAS_MARGIN + entry.getStartTime() * scale;
-            double endX = CANVAS_MARGIN + entry.getEndTime() * scale;
-            double width = Math.max(endX - startX, 6);
-
-            String colorHex = Constants.getProcessColor(entry.getProcessId());
-            Color barColor = Constants.hexToColor(colorHex);
-            Color darkerColor = barColor.darker();
+        // Only rows crossing this tile (bars carry a duration label just above them)
+        int firstSlot = (int) Math.max(0, Math.floor((clipMinY - graphStartY - BAR_HEIGHT) / LANE_STRIDE));
+        int lastSlot = (int) Math.min(laneView.rowCount() - 1, Math.floor((clipMaxY - graphStartY + 20) / LANE_STRIDE));
 
-            // Draw bar with better visibility for image
-            gc.setFill(barColor);
-            gc.fillRoundRect(startX, barY, width, BAR_HEIGHT, 12, 12);
-
-            gc.setStroke(darkerColor);
-            gc.setLineWidth(2);
-            gc.strokeRoundRect(startX, barY, width, BAR_HEIGHT, 12, 12);
-
-            // Better text visibility for image
-            gc.setFill(Color.WHITE);
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+        for (int row = firstSlot; row <= lastSlot; row++) {
+            int barY = graphStartY + row * LANE_STRIDE;
 
-            double textX = startX + width / 2;
-            double textY = barY + BAR_HEIGHT / 2 + 5;
-
-            if (width < 30) {
-                gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
+            if (laneView.isGroupRow(row)) {
+                drawGroupOccupancy(gc, row, barY, scale, Math.max(CANVAS_MARGIN, clipMinX),
+                        Math.min(CANVAS_MARGIN + lanes.totalTime() * scale, clipMaxX));
+                continue;
             }
 
-            gc.fillText(entry.getProcessId(), textX, textY);
-
-            // Duration label with better positioning
-            if (width > 40) {
-                gc.setFill(Color.web("#2c3e50"));
-                gc.setFont(Font.font("Arial", FontWeight.NORMAL, 11));
-                gc.fillText(String.valueOf(entry.getDuration()), textX, barY - 8);
+            int count = laneView.sliceCount(row);
+            for (int k = laneView.firstSliceEndingAfter(row, fromTime); k < count; k++) {
+                int entry = laneView.slice(row, k);
+                if (lanes.startTime(entry) > toTime) {
+                    break;
+                }
+                double startX = CANVAS_MARGIN + lanes.startTime(entry) * scale;
+                double endX = CANVAS_MARGIN + lanes.endTime(entry) * scale;
+                double width = Math.max(endX - startX, 6);
+
+                String processId = lanes.laneId(lanes.laneOf(entry));
+                Color barColor = Constants.hexToColor(Constants.getProcessColor(processId));
+
+                // Draw bar with better visibility for image
+                gc.setFill(barColor);
+                gc.fillRoundRect(startX, barY, width, BAR_HEIGHT, 12, 12);
+
+                gc.setStroke(barColor.darker());
+                gc.setLineWidth(2);
+                gc.strokeRoundRect(startX, barY, width, BAR_HEIGHT, 12, 12);
+
+                // Better text visibility for image
+                gc.setFill(Color.WHITE);
+                gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+
+                double textX = startX + width / 2;
+                double textY = barY + BAR_HEIGHT / 2 + 5;
+
+                if (width < 30) {
+                    gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
+                }
+
+                gc.fillText(processId, textX, textY);
+
+                // Duration label with better positioning
+                if (width > 40) {
+                    gc.setFill(Color.web("#2c3e50"));
+                    gc.setFont(Font.font("Arial", FontWeight.NORMAL, 11));
+                    gc.fillText(String.valueOf(lanes.endTime(entry) - lanes.startTime(entry)), textX, barY - 8);
+                }
             }
+        }
 
-            gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-
-            // Time labels with better spacing
-            if (entry == entries.get(0)) {
-                drawTimeLabelForImage(gc, entry.getStartTime(), startX, timelineY + TEXT_OFFSET + 5);
+        // Time labels with better spacing
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+        if (clipMaxY >= timelineY - EXPORT_CULL_PADDING && clipMinY <= timelineY + EXPORT_CULL_PADDING) {
+            for (int entry = firstEntryEndingAfter(lanes, fromTime); entry < lanes.entryCount(); entry++) {
+                int start = lanes.startTime(entry);
+                if (start > toTime) {
+                    break;
+                }
+                if (entry == 0) {
+                    drawTimeLabelForImage(gc, start, CANVAS_MARGIN + start * scale, timelineY + TEXT_OFFSET + 5);
+                }
+                int end = lanes.endTime(entry);
+                drawTimeLabelForImage(gc, end, CANVAS_MARGIN + end * scale, timelineY + TEXT_OFFSET + 5);
             }
-            drawTimeLabelForImage(gc, entry.getEndTime(), endX, timelineY + TEXT_OFFSET + 5);
         }
 
         // Process labels with better positioning
@@ -345,27 +664,51 @@ public class GanttChartController {
         gc.setFont(Font.font("Arial", FontWeight.BOLD, 13));
         gc.setTextAlign(TextAlignment.RIGHT);
 
-        for (int i = 0; i < uniqueProcesses.size(); i++) {
-            String processId = uniqueProcesses.get(i);
-            int barY = timelineY - BAR_HEIGHT - 15 - (i * (BAR_HEIGHT + BAR_SPACING));
-            int textY = barY + BAR_HEIGHT / 2 + 5;
-
-            // Ensure process labels don't overlap with header
-            if (barY >= HEADER_HEIGHT + 30) {
-                gc.fillText("Process " + processId, CANVAS_MARGIN - 15, textY);
+        if (clipMinX <= CANVAS_MARGIN) {
+            for (int row = firstSlot; row <= lastSlot; row++) {
+                int textY = graphStartY + row * LANE_STRIDE + BAR_HEIGHT / 2 + 5;
+                gc.fillText(rowLabel(row), CANVAS_MARGIN - 15, textY);
             }
         }
 
         gc.setTextAlign(TextAlignment.CENTER);
     }
 
-    private void drawTimeMarks(GraphicsContext gc, int totalTime, double scale, int graphStartY, int canvasWidth) {
+    /**
+     * Collapsed group row: one bar whose shade per pixel column is the group's share of CPU time there.
+     */
+    private void drawGroupOccupancy(GraphicsContext gc, int row, int barY, double scale, double fromX, double toX) {
+        int columns = (int) Math.ceil(toX - fromX);
+        if (columns <= 0) {
+            return;
+        }
+        Color groupColor = Constants.hexToColor(Constants.getProcessColor(lanes.laneId(laneView.colorLane(row))));
+        double[] busy = laneView.occupancy(row, (fromX - CANVAS_MARGIN) / scale, 1 / scale, columns);
+
+        for (int c = 0; c < columns; c++) {
+            if (busy[c] > 0) {
+                gc.setFill(groupColor.deriveColor(0, 1, 1, Math.min(1.0, busy[c])));
+                gc.fillRect(fromX + c, barY, 1, BAR_HEIGHT);
+            }
+        }
+        gc.setStroke(groupColor.darker());
+        gc.setLineWidth(1);
+        gc.strokeRect(fromX, barY, toX - fromX, BAR_HEIGHT);
+    }
+
+    private String rowLabel(int row) {
+        if (laneView.isGroupRow(row)) {
+            return laneView.rowLabel(row);
+        }
+        String label = "Process " + laneView.rowLabel(row);
+        return laneView.isGroupMember(row) ? "  " + label : label;
+    }
+
+    private void drawTimeMarks(GraphicsContext gc, int totalTime, double scale, int timelineY, int canvasWidth) {
         gc.setStroke(Color.web("#7f8c8d"));
         gc.setLineWidth(1);
         gc.setFont(Font.font("Arial", FontWeight.NORMAL, 10));
 
-        int timelineY = graphStartY + BAR_HEIGHT + 40;
-
         for (int time = 0; time <= totalTime; time += TIME_MARK_INTERVAL) {
             double x = CANVAS_MARGIN + time * scale;
             gc.strokeLine(x, timelineY - 5, x, timelineY + 5);
@@ -376,14 +719,17 @@ public class GanttChartController {
         }
     }
 
-    private void drawTimeMarksForImage(GraphicsContext gc, int totalTime, double scale, int graphStartY, int canvasWidth) {
+    private void drawTimeMarksForImage(GraphicsContext gc, int totalTime, double scale, int timelineY, int canvasWidth,
+                                       double clipMinX, double clipMaxX) {
         gc.setStroke(Color.web("#7f8c8d"));
         gc.setLineWidth(1.5);
         gc.setFont(Font.font("Arial", FontWeight.NORMAL, 11));
 
-        int timelineY = graphStartY + BAR_HEIGHT + 50;
+        int firstTime = (int) Math.max(0, Math.floor((clipMinX - EXPORT_CULL_PADDING - CANVAS_MARGIN) / scale));
+        int lastTime = (int) Math.min(totalTime, Math.ceil((clipMaxX + EXPORT_CULL_PADDING - CANVAS_MARGIN) / scale));
+        firstTime -= firstTime % TIME_MARK_INTERVAL;
 
-        for (int time = 0; time <= totalTime; time += TIME_MARK_INTERVAL) {
+        for (int time = firstTime; time <= lastTime; time += TIME_MARK_INTERVAL) {
             double x = CANVAS_MARGIN + time * scale;
             gc.strokeLine(x, timelineY - 6, x, timelineY + 6);
 
@@ -393,12 +739,8 @@ public class GanttChartController {
         }
     }
 
-    private void drawLegend(GraphicsContext gc, List<GanttEntry> entries, int canvasWidth, int canvasHeight) {
-        List<String> uniqueProcesses = entries.stream()
-                .map(GanttEntry::getProcessId)
-                .distinct()
-                .filter(id -> !id.equals("IDLE"))
-                .toList();
+    private void drawLegend(GraphicsContext gc, int canvasWidth, int canvasHeight) {
+        List<String> uniqueProcesses = legendProcesses();
 
         if (!uniqueProcesses.isEmpty()) {
             int legendX = canvasWidth - LEGEND_WIDTH + 20;
@@ -408,12 +750,8 @@ public class GanttChartController {
         }
     }
 
-    private void drawLegendForImage(GraphicsContext gc, List<GanttEntry> entries, int canvasWidth, int canvasHeight) {
-        List<String> uniqueProcesses = entries.stream()
-                .map(GanttEntry::getProcessId)
-                .distinct()
-                .filter(id -> !id.equals("IDLE"))
-                .toList();
+    private void drawLegendForImage(GraphicsContext gc, int canvasWidth, int canvasHeight) {
+        List<String> uniqueProcesses = legendProcesses();
 
         if (!uniqueProcesses.isEmpty()) {
             int legendX = canvasWidth - LEGEND_WIDTH + 20;
@@ -423,6 +761,28 @@ public class GanttChartController {
         }
     }
 
+    /**
+     * Legend entries: the first LEGEND_MAX_ITEMS processes (IDLE excluded), then a "+N more" line.
+     */
+    private List<String> legendProcesses() {
+        List<String> ids = new ArrayList<>();
+        int total = 0;
+        for (int lane = 0; lane < lanes.laneCount(); lane++) {
+            String id = lanes.laneId(lane);
+            if (id.equals(GanttLanes.IDLE_ID)) {
+                continue;
+            }
+            if (ids.size() < LEGEND_MAX_ITEMS) {
+                ids.add(id);
+            }
+            total++;
+        }
+        if (total > ids.size()) {
+            ids.add("+" + (total - ids.size()) + " more");
+        }
+        return ids;
+    }
+
     private void drawLegendBox(GraphicsContext gc, List<String> uniqueProcesses, int legendX, int legendY) {
         int boxSize = 20; // Proper size for visibility
         int itemHeight = 25; // Height per legend item
@@ -453,6 +813,14 @@ public class GanttChartController {
             String processId = uniqueProcesses.get(i);
             int yPos = legendY + titleHeight + (i * (itemHeight + verticalSpacing));
 
+            if (processId.startsWith("+")) {
+                // Overflow line ("+N more"), no color box
+                gc.setFill(Color.web("#7f8c8d"));
+                gc.setTextAlign(TextAlignment.LEFT);
+                gc.fillText(processId, legendX, yPos + 14);
+                continue;
+            }
+
             // Draw color box
             String colorHex = Constants.getProcessColor(processId);
             Color boxColor = Constants.hexToColor(colorHex);
@@ -501,6 +869,14 @@ public class GanttChartController {
             String processId = uniqueProcesses.get(i);
             int yPos = legendY + titleHeight + (i * (itemHeight + verticalSpacing));
 
+            if (processId.startsWith("+")) {
+                // Overflow line ("+N more"), no color box
+                gc.setFill(Color.web("#7f8c8d"));
+                gc.setTextAlign(TextAlignment.LEFT);
+                gc.fillText(processId, legendX, yPos + 14);
+                continue;
+            }
+
             // Draw color box
             String colorHex = Constants.getProcessColor(processId);
             Color boxColor = Constants.hexToColor(colorHex);
@@ -567,72 +943,289 @@ public class GanttChartController {
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
     }
 
+
     public void clearChart() {
+        stopPlayback();
+        scheduleIndex = null;
+        sliceTooltip.hide();
+        renderGeneration++;
+        rasterView.setImage(null);
+        shownRenderer = null;
+        scrollPane.setContent(canvas);
+        lanes = null;
+        laneView = null;
+        updateLaneScrollBar();
         GraphicsContext gc = canvas.getGraphicsContext2D();
         clearCanvas(gc);
         canvas.setWidth(Constants.CANVAS_WIDTH);
         canvas.setHeight(Constants.CANVAS_HEIGHT);
-        currentGanttEntries.clear();
     }
 
-    public boolean isChartEmpty() {
-        return currentGanttEntries.isEmpty();
+    /**
+     * Animate the schedule as the stepper produces it. {@code onFinished} receives the full result
+     * once the last slice has been shown; stopping playback early (clear, run) drops it.
+     */
+    public void play(ScheduleStepper stepper, Consumer<RoundRobinScheduler.SimulationResult> onFinished) {
+        clearChart();
+        playbackStepper = stepper;
+        playbackFinished = onFinished;
+        pendingSlice = null;
+        playbackTime = 0;
+        lastFrameNanos = 0;
+
+        int width = Math.max(Constants.CANVAS_WIDTH, (int) scrollPane.getViewportBounds().getWidth());
+        playbackCanvas.setWidth(width);
+        playbackScale = (width - 2.0 * CANVAS_MARGIN) / Math.max(1, stepper.getProjectedEndTime());
+        paintedToX = CANVAS_MARGIN;
+        drawPlaybackFrame(playbackCanvas.getGraphicsContext2D(), width, stepper.getProjectedEndTime());
+
+        scrollPane.setContent(playbackCanvas);
+        setReadyQueueShown(true);
+        updateReadyQueue();
+        playbackTimer.start();
     }
 
-    public boolean saveAsImage(File file) {
-        try {
-            if (isChartEmpty()) {
-                return false;
+    private void stopPlayback() {
+        if (playbackStepper == null) {
+            return;
+        }
+        playbackTimer.stop();
+        playbackStepper = null;
+        playbackFinished = null;
+        pendingSlice = null;
+        setReadyQueueShown(false);
+    }
+
+    private void advancePlayback(long now) {
+        if (playbackStepper == null) {
+            return;
+        }
+        double elapsed = lastFrameNanos == 0 ? 0 : (now - lastFrameNanos) / 1e9;
+        lastFrameNanos = now;
+        playbackTime += elapsed * playbackSpeed();
+
+        GraphicsContext gc = playbackCanvas.getGraphicsContext2D();
+        for (int budget = PLAYBACK_SLICES_PER_FRAME; budget > 0; budget--) {
+            if (pendingSlice == null) {
+                pendingSlice = playbackStepper.next();
+                if (pendingSlice == null) {
+                    finishPlayback();
+                    return;
+                }
             }
+            if (pendingSlice.getStartTime() > playbackTime) {
+                break;
+            }
+            paintPlaybackSlice(gc, pendingSlice);
+            pendingSlice = null;
+        }
+        updateReadyQueue();
+    }
 
-            // Create optimal size for saved image
-            int totalTime = currentGanttEntries.get(currentGanttEntries.size() - 1).getEndTime();
-            int saveWidth = Math.min(2500, Math.max(1200, totalTime * 40 + 2 * CANVAS_MARGIN + LEGEND_WIDTH));
-            int saveHeight = calculateCanvasHeight(currentGanttEntries) + 100; // Extra space
+    private void finishPlayback() {
+        RoundRobinScheduler.SimulationResult result = playbackStepper.toResult();
+        Consumer<RoundRobinScheduler.SimulationResult> onFinished = playbackFinished;
+        stopPlayback();
+        if (onFinished != null) {
+            onFinished.accept(result);
+        }
+    }
 
-            // Limit dimensions
-            saveWidth = Math.min(saveWidth, 3000);
-            saveHeight = Math.min(saveHeight, 2000);
+    /**
+     * Static parts of the playback view: the time axis is known up front from the projected end time.
+     */
+    private void drawPlaybackFrame(GraphicsContext gc, int width, int endTime) {
+        gc.setFill(Color.WHITE);
+        gc.fillRect(0, 0, width, PLAYBACK_CANVAS_HEIGHT);
 
-            Canvas saveCanvas = new Canvas(saveWidth, saveHeight);
-            GraphicsContext saveGc = saveCanvas.getGraphicsContext2D();
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setFill(Color.web("#2c3e50"));
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+        gc.fillText("ROUND ROBIN SCHEDULING - PLAYBACK", width / 2.0, 30);
+
+        int timelineY = PLAYBACK_BAR_Y + BAR_HEIGHT + 10;
+        gc.setStroke(Color.web("#34495e"));
+        gc.setLineWidth(3);
+        gc.strokeLine(CANVAS_MARGIN, timelineY, width - CANVAS_MARGIN, timelineY);
+
+        gc.setLineWidth(1);
+        for (int mark = 0; mark <= PLAYBACK_TIME_MARKS; mark++) {
+            int time = (int) ((long) endTime * mark / PLAYBACK_TIME_MARKS);
+            double x = CANVAS_MARGIN + time * playbackScale;
+            gc.strokeLine(x, timelineY - 5, x, timelineY + 5);
+            drawTimeLabel(gc, time, x, timelineY + 20);
+        }
+    }
+
+    /**
+     * Paint one slice, skipping pixel columns already painted: slices narrower than a pixel cost no drawing
+     * once their column is covered, so a frame draws at most one rectangle per new column plus wide slices.
+     */
+    private void paintPlaybackSlice(GraphicsContext gc, GanttEntry slice) {
+        double startX = CANVAS_MARGIN + slice.getStartTime() * playbackScale;
+        double endX = CANVAS_MARGIN + slice.getEndTime() * playbackScale;
+        int left = Math.max(paintedToX, (int) Math.floor(startX));
+        int right = (int) Math.ceil(endX);
+        if (right <= left) {
+            return;
+        }
+        paintedToX = right;
 
-            // Clear and draw with image-optimized layout
-            clearCanvas(saveGc);
-            drawChartForImage(saveGc, currentGanttEntries, saveWidth, saveHeight, totalTime);
+        String processId = slice.getProcessId();
+        gc.setFill(playbackColors.computeIfAbsent(processId,
+                id -> Constants.hexToColor(Constants.getProcessColor(id))));
+        gc.fillRect(left, PLAYBACK_BAR_Y, right - left, BAR_HEIGHT);
 
-            // Take snapshot
-            WritableImage writableImage = new WritableImage(saveWidth, saveHeight);
-            saveCanvas.snapshot(null, writableImage);
+        if (endX - startX >= 40) {
+            gc.setStroke(Color.WHITE);
+            gc.setLineWidth(1);
+            gc.strokeLine(left + 0.5, PLAYBACK_BAR_Y, left + 0.5, PLAYBACK_BAR_Y + BAR_HEIGHT);
+            gc.setFill(Color.WHITE);
+            gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.fillText(processId, (startX + endX) / 2, PLAYBACK_BAR_Y + BAR_HEIGHT / 2.0 + 4);
+        }
+    }
 
-            // Convert and save
-            BufferedImage bufferedImage = convertToBufferedImage(writableImage);
-            return ImageIO.write(bufferedImage, "png", file);
+    private void updateReadyQueue() {
+        ScheduleStepper stepper = playbackStepper;
+        int size = stepper.readyQueueSize();
+        StringBuilder text = new StringBuilder();
+        text.append("t = ").append(stepper.getCurrentTime()).append(" / ").append(stepper.getProjectedEndTime())
+                .append("   completed ").append(stepper.getCompletedCount()).append('/').append(stepper.getProcessCount())
+                .append("   ready queue (").append(size).append("):");
+        int shown = Math.min(size, PLAYBACK_READY_SHOWN);
+        for (int i = 0; i < shown; i++) {
+            text.append(' ').append(stepper.readyProcessId(i));
+        }
+        if (size > shown) {
+            text.append(" +").append(size - shown).append(" more");
+        }
+        readyQueueLabel.setText(text.toString());
+    }
+
+    private void setReadyQueueShown(boolean shown) {
+        readyQueueLabel.setVisible(shown);
+        readyQueueLabel.setManaged(shown);
+    }
+
+    private double playbackSpeed() {
+        return Math.pow(10, playbackSpeedSlider.getValue());
+    }
+
+    private void updatePlaybackSpeedLabel() {
+        double speed = playbackSpeed();
+        playbackSpeedLabel.setText(speed >= 100 ? String.format("%,.0f/s", speed) : String.format("%.1f/s", speed));
+    }
+
+    public boolean isChartEmpty() {
+        return lanes == null || lanes.entryCount() == 0;
+    }
+
+    /**
+     * What {@link #saveAsImage} wrote. A timeline wider than {@code MAX_EXPORT_WIDTH} pixels at full resolution
+     * is scaled down to fit it, and {@code pixelsPerTimeUnit} tells by how much. Lane rows are only left out
+     * ({@code rowsWritten < rowCount}) when the image would be taller than a PNG can be.
+     */
+    public record ImageExport(int width, int height, double pixelsPerTimeUnit, boolean scaledDown,
+                              int rowsWritten, int rowCount) {
+
+        public boolean truncated() { return rowsWritten < rowCount; }
+    }
+
+    /**
+     * Save the chart as a PNG, or return null if there is no chart or writing failed.
+     */
+    public ImageExport saveAsImage(File file) {
+        try {
+            if (isChartEmpty()) {
+                return null;
+            }
+
+            // Full-resolution size for saved image; every lane row of the current grouping is included
+            int totalTime = lanes.totalTime();
+            long desiredWidth = Math.max(1200L, (long) totalTime * EXPORT_UNIT_WIDTH + 2 * CANVAS_MARGIN + LEGEND_WIDTH);
+
+            // Large or long charts: the raster renderer streams strips without going through the scene graph,
+            // so the height is not capped and every row fits unless the PNG itself would be too tall
+            int rowCount = laneView.rowCount();
+            if (lanes.entryCount() >= RASTER_RENDER_THRESHOLD || desiredWidth > MAX_EXPORT_DIMENSION) {
+                int saveWidth = (int) Math.min(desiredWidth, MAX_EXPORT_WIDTH);
+                GanttRasterRenderer renderer =
+                        new GanttRasterRenderer(laneView, 0, Integer.MAX_VALUE, saveWidth, Integer.MAX_VALUE);
+                renderer.writePng(file);
+                return new ImageExport(renderer.getWidth(), renderer.getHeight(), renderer.getPixelsPerTimeUnit(),
+                        renderer.getPixelsPerTimeUnit() < EXPORT_UNIT_WIDTH, renderer.getRowsShown(), rowCount);
+            }
+
+            // Fewer entries than RASTER_RENDER_THRESHOLD: at most two rows per entry, well within the tile cap
+            int saveWidth = (int) desiredWidth;
+            int saveHeight = Math.min(calculateCanvasHeight(rowCount) + 100, MAX_EXPORT_DIMENSION); // Extra space
+            writeTiledImage(file, saveWidth, saveHeight, totalTime);
+            return new ImageExport(saveWidth, saveHeight,
+                    (saveWidth - 2 * CANVAS_MARGIN - LEGEND_WIDTH) / (double) totalTime, false, rowCount, rowCount);
 
         } catch (Exception e) {
             System.err.println("Error saving Gantt chart image: " + e.getMessage());
             e.printStackTrace();
-            return false;
+            return null;
         }
     }
 
-    private BufferedImage convertToBufferedImage(WritableImage writableImage) {
-        int width = (int) writableImage.getWidth();
-        int height = (int) writableImage.getHeight();
-        BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-
-        // Convert each pixel
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                javafx.scene.paint.Color fxColor = writableImage.getPixelReader().getColor(x, y);
-                int argb = (int) (fxColor.getOpacity() * 255) << 24 |
-                        (int) (fxColor.getRed() * 255) << 16 |
-                        (int) (fxColor.getGreen() * 255) << 8 |
-                        (int) (fxColor.getBlue() * 255);
-                bufferedImage.setRGB(x, y, argb);
+    /**
+     * Render the image-optimized chart in tiles and stream it into a PNG.
+     * Each strip of rows is assembled from tile snapshots with a bulk getPixels
+     * and handed to the encoder, so memory stays bounded by one strip.
+     */
+    private void writeTiledImage(File file, int saveWidth, int saveHeight, int totalTime) throws Exception {
+        int tileWidth = Math.min(EXPORT_TILE_SIZE, saveWidth);
+        int stripHeight = Math.max(1, Math.min(EXPORT_TILE_SIZE, EXPORT_STRIP_PIXEL_BUDGET / saveWidth));
+        stripHeight = Math.min(stripHeight, saveHeight);
+
+        Canvas tileCanvas = new Canvas(tileWidth, stripHeight);
+        GraphicsContext tileGc = tileCanvas.getGraphicsContext2D();
+        WritableImage tileImage = new WritableImage(tileWidth, stripHeight);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.WHITE);
+
+        int[] strip = new int[saveWidth * stripHeight];
+
+        try (PngStreamWriter png = new PngStreamWriter(file, saveWidth, saveHeight)) {
+            for (int tileY = 0; tileY < saveHeight; tileY += stripHeight) {
+                int rows = Math.min(stripHeight, saveHeight - tileY);
+
+                for (int tileX = 0; tileX < saveWidth; tileX += tileWidth) {
+                    int cols = Math.min(tileWidth, saveWidth - tileX);
+
+                    tileGc.save();
+                    tileGc.setFill(Color.WHITE);
+                    tileGc.fillRect(0, 0, tileWidth, stripHeight);
+                    tileGc.translate(-tileX, -tileY);
+                    drawChartForImage(tileGc, saveWidth, saveHeight, totalTime,
+                            tileX, tileX + cols, tileY, tileY + rows);
+                    tileGc.restore();
+
+                    tileCanvas.snapshot(params, tileImage);
+                    tileImage.getPixelReader().getPixels(0, 0, cols, rows,
+                            PixelFormat.getIntArgbInstance(), strip, tileX, saveWidth);
+                }
+
+                png.writeRows(strip, 0, saveWidth, rows);
             }
         }
+    }
 
-        return bufferedImage;
+    private static int firstEntryEndingAfter(GanttLanes lanes, double time) {
+        int lo = 0;
+        int hi = lanes.entryCount();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (lanes.endTime(mid) < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,46 @@
 package org.app.roundrobin.controller;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import org.app.roundrobin.algorithm.QuantumSpeculator;
 import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.ScheduleStepper;
+import org.app.roundrobin.algorithm.SimulationCache;
+import org.app.roundrobin.generator.ArrivalProcess;
+import org.app.roundrobin.generator.BurstDistribution;
+import org.app.roundrobin.generator.WorkloadGenerator;
+import org.app.roundrobin.model.GanttEntry;
 import org.app.roundrobin.model.Process;
 
 import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+import org.app.roundrobin.model.WorkloadRegistry;
 import org.app.roundrobin.utils.Constants;
+import org.app.roundrobin.utils.ResultCsv;
+import org.app.roundrobin.utils.WorkloadFile;
+import org.app.roundrobin.utils.WorkloadFileWatcher;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class MainController implements Initializable {
 
@@ -26,6 +48,13 @@ public class MainController implements Initializable {
     @FXML private TextField arrivalTimeField;
     @FXML private TextField burstTimeField;
     @FXML private TextField quantumField;
+    @FXML private Slider quantumSlider;
+    @FXML private TextField resultFilterField;
+    @FXML private TextField generateCountField;
+    @FXML private TextField generateSeedField;
+    @FXML private ChoiceBox<String> arrivalModelChoice;
+    @FXML private ChoiceBox<String> burstModelChoice;
+    @FXML private Label watchStatusLabel;
 
     @FXML private TableView<Process> processTable;
     @FXML private TableColumn<Process, String> pidColumn;
@@ -44,28 +73,82 @@ public class MainController implements Initializable {
     @FXML private Label totalProcessesLabel;
     @FXML private Label totalTimeLabel;
 
+    // Result sets larger than this are shown through the columnar ResultTableList
+    private static final int LARGE_RESULT_THRESHOLD = 10_000;
+
+    // Results of earlier runs, by workload + quantum; set -Droundrobin.cache.dir to keep them across restarts
+    private static final long RESULT_CACHE_WEIGHT = 4_000_000;
+
+    // Generator choices, matched by position in arrivalModel() and burstModel()
+    private static final String[] ARRIVAL_MODELS = {"Poisson", "Bursty", "All at 0"};
+    private static final String[] BURST_MODELS = {"Exponential", "Pareto", "Bimodal"};
+    private static final long DEFAULT_GENERATOR_SEED = 42;
+
+    // Slices drawn for a slider position whose full result is still being computed
+    private static final int PREVIEW_SLICES = 2_000;
+
+    // Re-runs after a watched file changes; a newer run cancels the one in flight
+    private static final ExecutorService LIVE_RUN_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "live-simulation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final WorkloadRegistry workload = new WorkloadRegistry();
+    private final SimulationCache simulationCache = createSimulationCache();
+    private final QuantumSpeculator quantumSpeculator = new QuantumSpeculator(simulationCache);
     private ObservableList<Process> processes;
+    private FilteredList<Process> filteredProcesses;
+    private SortedList<Process> sortedProcesses;
+    private ResultTableList largeResults;
+    private ResultTableList largeWorkload; // the workload table above LARGE_RESULT_THRESHOLD processes
     private GanttChartController ganttChartController;
+    private TimeSeriesChartController timeSeriesChartController;
+    private WorkloadFile watchedFile;
+    private WorkloadFileWatcher fileWatcher;
+    private Future<?> liveRun;
+    private long liveRunGeneration;
+    private int sliderQuantum;
+    private boolean syncingQuantum;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         initializeTable();
         initializeInputs();
         processes = FXCollections.observableArrayList();
-        processTable.setItems(processes);
+        filteredProcesses = new FilteredList<>(processes);
+        sortedProcesses = new SortedList<>(filteredProcesses);
+        sortedProcesses.comparatorProperty().bind(processTable.comparatorProperty());
+        processTable.setItems(sortedProcesses);
+        workload.addListener(this::onWorkloadChanged);
+        workload.addListener((registry, firstAppended) -> quantumSpeculator.invalidate());
 
         // Initialize Gantt chart
         ganttChartController = new GanttChartController();
         ganttChartContainer.getChildren().add(ganttChartController.createGanttChartNode());
+        timeSeriesChartController = new TimeSeriesChartController();
+        ganttChartContainer.getChildren().add(timeSeriesChartController.createNode());
     }
 
     private void initializeTable() {
-        pidColumn.setCellValueFactory(new PropertyValueFactory<>("processId"));
-        arrivalColumn.setCellValueFactory(new PropertyValueFactory<>("arrivalTime"));
-        burstColumn.setCellValueFactory(new PropertyValueFactory<>("burstTime"));
-        completionColumn.setCellValueFactory(new PropertyValueFactory<>("completionTime"));
-        turnaroundColumn.setCellValueFactory(new PropertyValueFactory<>("turnaroundTime"));
-        waitingColumn.setCellValueFactory(new PropertyValueFactory<>("waitingTime"));
+        // Plain lambdas: no reflective property lookup and no per-cell property binding
+        pidColumn.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(cd.getValue().getProcessId()));
+        arrivalColumn.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(cd.getValue().getArrivalTime()));
+        burstColumn.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(cd.getValue().getBurstTime()));
+        completionColumn.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(cd.getValue().getCompletionTime()));
+        turnaroundColumn.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(cd.getValue().getTurnaroundTime()));
+        waitingColumn.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(cd.getValue().getWaitingTime()));
+
+        // Large result sets sort their primitive columns directly
+        processTable.setSortPolicy(table -> {
+            if (table.getItems() instanceof ResultTableList results) {
+                TableColumn<Process, ?> column = table.getSortOrder().isEmpty() ? null : table.getSortOrder().get(0);
+                results.sortBy(column == null ? null : columnKey(column),
+                        column == null || column.getSortType() == TableColumn.SortType.ASCENDING);
+                return true;
+            }
+            return TableView.DEFAULT_SORT_POLICY.call(table);
+        });
 
         // Set cell factories for better formatting
         setIntegerCellFactory(arrivalColumn);
@@ -75,6 +158,15 @@ public class MainController implements Initializable {
         setIntegerCellFactory(waitingColumn);
     }
 
+    private ProcessColumns.Column columnKey(TableColumn<Process, ?> column) {
+        if (column == arrivalColumn) return ProcessColumns.Column.ARRIVAL_TIME;
+        if (column == burstColumn) return ProcessColumns.Column.BURST_TIME;
+        if (column == completionColumn) return ProcessColumns.Column.COMPLETION_TIME;
+        if (column == turnaroundColumn) return ProcessColumns.Column.TURNAROUND_TIME;
+        if (column == waitingColumn) return ProcessColumns.Column.WAITING_TIME;
+        return ProcessColumns.Column.PROCESS_ID;
+    }
+
     private void setIntegerCellFactory(TableColumn<Process, Integer> column) {
         column.setCellFactory(tc -> new TableCell<Process, Integer>() {
             @Override
@@ -96,6 +188,123 @@ public class MainController implements Initializable {
         setNumericInputFilter(arrivalTimeField);
         setNumericInputFilter(burstTimeField);
         setNumericInputFilter(quantumField);
+        setNumericInputFilter(generateCountField);
+        setNumericInputFilter(generateSeedField);
+
+        arrivalModelChoice.getItems().setAll(ARRIVAL_MODELS);
+        arrivalModelChoice.getSelectionModel().selectFirst();
+        burstModelChoice.getItems().setAll(BURST_MODELS);
+        burstModelChoice.getSelectionModel().selectFirst();
+
+        resultFilterField.textProperty().addListener((observable, oldValue, newValue) -> applyResultFilter(newValue));
+        initializeQuantumSlider();
+    }
+
+    /**
+     * The slider and the quantum field follow each other. Moving the slider shows that quantum's result at once
+     * when it was computed ahead, and a preview until it is; the time series waits until the slider is released.
+     */
+    private void initializeQuantumSlider() {
+        sliderQuantum = Constants.DEFAULT_QUANTUM;
+        quantumSlider.setValue(sliderQuantum);
+        quantumSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
+            int quantum = (int) Math.round(newValue.doubleValue());
+            if (syncingQuantum || quantum == sliderQuantum) {
+                return;
+            }
+            sliderQuantum = quantum;
+            syncingQuantum = true;
+            quantumField.setText(String.valueOf(quantum));
+            syncingQuantum = false;
+            showQuantum(quantum);
+            if (!quantumSlider.isValueChanging() && !workload.isEmpty()) {
+                timeSeriesChartController.show(workload, quantum);
+            }
+        });
+        quantumSlider.valueChangingProperty().addListener((observable, wasChanging, changing) -> {
+            if (!changing && !workload.isEmpty()) {
+                timeSeriesChartController.show(workload, sliderQuantum);
+            }
+        });
+        quantumField.textProperty().addListener((observable, oldValue, newValue) -> {
+            if (syncingQuantum || !newValue.matches("\\d{1,9}") || Integer.parseInt(newValue) <= 0) {
+                return;
+            }
+            // The slider keeps its own range: a quantum beyond it pins the slider to its end
+            int quantum = Integer.parseInt(newValue);
+            syncingQuantum = true;
+            quantumSlider.setValue(Math.min(quantum, quantumSlider.getMax()));
+            syncingQuantum = false;
+            sliderQuantum = quantum;
+        });
+    }
+
+    private void showQuantum(int quantum) {
+        if (workload.isEmpty()) {
+            return;
+        }
+        // Like a live re-run, a slider result is dropped once anything newer has been shown
+        long generation = ++liveRunGeneration;
+        CompletableFuture<RoundRobinScheduler.SimulationResult> result = quantumSpeculator.request(workload, quantum);
+        if (result.isDone() && !result.isCompletedExceptionally()) {
+            showResult(result.join());
+            return;
+        }
+        showPreview(quantum);
+        result.whenComplete((finished, error) -> Platform.runLater(() -> {
+            if (generation != liveRunGeneration) {
+                return;
+            }
+            if (error == null) {
+                showResult(finished);
+                return;
+            }
+            // Cancelled: the workload changed under the run. Either way the preview is no longer accurate
+            ganttChartController.clearChart();
+            clearMetrics();
+            if (!(error instanceof CancellationException)) {
+                showAlert("Simulation Error", "An error occurred during simulation: " + error.getMessage());
+                error.printStackTrace();
+            }
+        }));
+    }
+
+    /**
+     * The first slices of the schedule and the metrics known before it runs: the schedule ends at the projected
+     * time with the CPU busy for every burst, whatever the quantum. Waiting and turnaround need the full run.
+     */
+    private void showPreview(int quantum) {
+        ScheduleStepper stepper = quantumSpeculator.preview(workload, quantum);
+        List<GanttEntry> slices = new ArrayList<>(PREVIEW_SLICES);
+        GanttEntry slice;
+        while (slices.size() < PREVIEW_SLICES && (slice = stepper.next()) != null) {
+            slices.add(slice);
+        }
+        ganttChartController.drawGanttChart(slices);
+
+        int totalTime = stepper.getProjectedEndTime();
+        long busyTime = quantumSpeculator.getTotalBurstTime(workload);
+        avgWaitingTimeLabel.setText("Avg Waiting Time: ...");
+        avgTurnaroundTimeLabel.setText("Avg Turnaround Time: ...");
+        cpuUtilizationLabel.setText(String.format("CPU Utilization: %.2f%%",
+                totalTime > 0 ? (double) busyTime / totalTime * 100 : 0.0));
+        throughputLabel.setText(String.format("Throughput: %.4f processes/unit time",
+                totalTime > 0 ? (double) stepper.getProcessCount() / totalTime : 0.0));
+        totalProcessesLabel.setText(String.format("Total Processes: %d", stepper.getProcessCount()));
+        totalTimeLabel.setText(String.format("Total Time: %d", totalTime));
+    }
+
+    private void applyResultFilter(String prefix) {
+        String trimmed = prefix == null ? "" : prefix.trim();
+        if (largeResults != null) {
+            largeResults = largeResults.filtered(trimmed);
+            processTable.setItems(largeResults);
+        } else if (largeWorkload != null) {
+            largeWorkload = largeWorkload.filtered(trimmed);
+            processTable.setItems(largeWorkload);
+        } else {
+            filteredProcesses.setPredicate(trimmed.isEmpty() ? null : p -> p.getProcessId().startsWith(trimmed));
+        }
     }
 
     private void setNumericInputFilter(TextField textField) {
@@ -127,15 +336,12 @@ public class MainController implements Initializable {
             }
 
             // Check for duplicate process ID
-            boolean duplicateExists = processes.stream()
-                    .anyMatch(p -> p.getProcessId().equals(processId));
-            if (duplicateExists) {
+            if (workload.contains(processId)) {
                 showAlert("Input Error", "Process ID must be unique.");
                 return;
             }
 
-            Process process = new Process(processId, arrivalTime, burstTime);
-            processes.add(process);
+            workload.add(processId, arrivalTime, burstTime);
 
             // Clear input fields
             processIdField.clear();
@@ -150,7 +356,7 @@ public class MainController implements Initializable {
 
     @FXML
     private void handleRunSimulation() {
-        if (processes.isEmpty()) {
+        if (workload.isEmpty()) {
             showAlert("Simulation Error", "Please add at least one process.");
             return;
         }
@@ -162,18 +368,13 @@ public class MainController implements Initializable {
                 return;
             }
 
-            // Run Round Robin scheduling
+            // Run Round Robin scheduling; a live re-run still in flight is superseded
+            liveRunGeneration++;
             RoundRobinScheduler.SimulationResult result =
-                    RoundRobinScheduler.schedule(processes, quantum);
-
-            // Update table with results
-            updateProcessTable(result.getProcesses());
+                    simulationCache.schedule(workload, quantum);
 
-            // Draw Gantt chart
-            ganttChartController.drawGanttChart(result.getGanttChart());
-
-            // Update metrics
-            updateMetrics(result.getMetrics());
+            showResult(result);
+            timeSeriesChartController.show(workload, quantum);
 
         } catch (NumberFormatException e) {
             showAlert("Input Error", "Please enter a valid quantum value.");
@@ -183,21 +384,213 @@ public class MainController implements Initializable {
         }
     }
 
+    @FXML
+    private void handlePlaySimulation() {
+        if (workload.isEmpty()) {
+            showAlert("Simulation Error", "Please add at least one process.");
+            return;
+        }
+
+        try {
+            int quantum = Integer.parseInt(quantumField.getText().trim());
+            if (quantum <= 0) {
+                showAlert("Input Error", "Quantum must be greater than 0.");
+                return;
+            }
+
+            // Slices are animated as the scheduler produces them; results fill in when playback ends
+            clearMetrics();
+            ganttChartController.play(RoundRobinScheduler.stepper(workload, quantum), this::showResult);
+            timeSeriesChartController.show(workload, quantum);
+
+        } catch (NumberFormatException e) {
+            showAlert("Input Error", "Please enter a valid quantum value.");
+        }
+    }
+
+    private static SimulationCache createSimulationCache() {
+        String directory = System.getProperty("roundrobin.cache.dir");
+        return new SimulationCache(RESULT_CACHE_WEIGHT,
+                directory == null || directory.isBlank() ? null : Path.of(directory));
+    }
+
+    private void showResult(RoundRobinScheduler.SimulationResult result) {
+        // Update table with results
+        updateProcessTable(result.getProcessColumns());
+
+        // Draw Gantt chart
+        ganttChartController.drawGanttChart(result);
+
+        // Update metrics
+        updateMetrics(result.getMetrics());
+    }
+
+    @FXML
+    private void handleGenerateWorkload() {
+        String countText = generateCountField.getText().trim();
+        if (countText.isEmpty()) {
+            showAlert("Input Error", "Please enter how many processes to generate.");
+            return;
+        }
+        try {
+            int count = Integer.parseInt(countText);
+            if (count <= 0) {
+                showAlert("Input Error", "Process count must be greater than 0.");
+                return;
+            }
+            String seedText = generateSeedField.getText().trim();
+            long seed = seedText.isEmpty() ? DEFAULT_GENERATOR_SEED : Long.parseLong(seedText);
+
+            // Replaces the workload; the table follows through the workload listener
+            stopWatching();
+            new WorkloadGenerator(seed, arrivalModel(), burstModel()).replace(workload, count);
+            ganttChartController.clearChart();
+            timeSeriesChartController.clear();
+            clearMetrics();
+        } catch (NumberFormatException e) {
+            showAlert("Input Error", "Please enter valid numbers for count and seed.");
+        } catch (IllegalArgumentException e) {
+            showAlert("Generation Error", e.getMessage());
+        }
+    }
+
+    private ArrivalProcess arrivalModel() {
+        return switch (arrivalModelChoice.getSelectionModel().getSelectedIndex()) {
+            case 1 -> ArrivalProcess.bursty(2.0, 32, 0.05, 32);
+            case 2 -> ArrivalProcess.simultaneous();
+            default -> ArrivalProcess.poisson(0.2);
+        };
+    }
+
+    private BurstDistribution burstModel() {
+        return switch (burstModelChoice.getSelectionModel().getSelectedIndex()) {
+            case 1 -> BurstDistribution.pareto(1.5, 1, 1_000);
+            case 2 -> BurstDistribution.bimodal(3, 40, 0.1);
+            default -> BurstDistribution.exponential(6);
+        };
+    }
+
+    /**
+     * Load a workload file and keep following it: every saved edit is re-read (only the changed lines are
+     * parsed again) and re-simulated with the current quantum, replacing the shown results.
+     */
+    @FXML
+    private void handleImportWorkload() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Import Workload CSV");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+        File chosen = fileChooser.showOpenDialog(processTable.getScene().getWindow());
+        if (chosen == null) {
+            return;
+        }
+        stopWatching();
+        WorkloadFile file = new WorkloadFile(chosen.toPath());
+        try {
+            file.reload();
+            file.copyTo(workload);
+            ganttChartController.clearChart();
+            timeSeriesChartController.clear();
+            clearMetrics();
+            watchedFile = file;
+            fileWatcher = new WorkloadFileWatcher(file.getPath(), () -> onWatchedFileChanged(file));
+            watchStatusLabel.setText("Watching " + chosen.getName());
+        } catch (IOException e) {
+            showAlert("Import Error", "Could not import workload: " + e.getMessage());
+        }
+    }
+
+    // Debounce thread: parse the edit here, then swap the workload in and re-run on the FX thread
+    private void onWatchedFileChanged(WorkloadFile file) {
+        try {
+            if (!file.reload()) {
+                return;
+            }
+        } catch (IOException e) {
+            Platform.runLater(() -> {
+                if (watchedFile == file) {
+                    watchStatusLabel.setText("Not updated: " + e.getMessage());
+                }
+            });
+            return;
+        }
+        int reparsed = file.getLastReparsedLines();
+        Platform.runLater(() -> {
+            if (watchedFile != file) {
+                return;
+            }
+            try {
+                file.copyTo(workload);
+            } catch (IOException e) {
+                watchStatusLabel.setText("Not updated: " + e.getMessage());
+                return;
+            }
+            watchStatusLabel.setText("Watching " + file.getPath().getFileName() + " (" + reparsed + " lines re-read)");
+            rerunLive();
+        });
+    }
+
+    private void rerunLive() {
+        int quantum;
+        try {
+            quantum = Integer.parseInt(quantumField.getText().trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (quantum <= 0 || workload.isEmpty()) {
+            return;
+        }
+        if (liveRun != null) {
+            liveRun.cancel(true);
+        }
+        long generation = ++liveRunGeneration;
+        ScheduleStepper run = RoundRobinScheduler.stepper(workload, quantum);
+        liveRun = LIVE_RUN_EXECUTOR.submit(() -> {
+            run.finishInterruptibly();
+            RoundRobinScheduler.SimulationResult result = run.toResult();
+            Platform.runLater(() -> {
+                if (generation == liveRunGeneration) {
+                    showResult(result);
+                    timeSeriesChartController.show(workload, quantum);
+                }
+            });
+            return null;
+        });
+    }
+
+    private void stopWatching() {
+        if (fileWatcher != null) {
+            try {
+                fileWatcher.close();
+            } catch (IOException e) {
+                System.err.println("Error closing file watcher: " + e.getMessage());
+            }
+        }
+        if (liveRun != null) {
+            liveRun.cancel(true);
+        }
+        liveRunGeneration++;
+        fileWatcher = null;
+        watchedFile = null;
+        watchStatusLabel.setText("");
+    }
+
     @FXML
     private void handleClear() {
-        processes.clear();
+        stopWatching();
+        workload.clear();
         processIdField.clear();
         arrivalTimeField.clear();
         burstTimeField.clear();
         quantumField.setText(String.valueOf(Constants.DEFAULT_QUANTUM));
         ganttChartController.clearChart();
+        timeSeriesChartController.clear();
         clearMetrics();
         processIdField.requestFocus();
     }
 
     @FXML
     private void handleExportCSV() {
-        if (processes.isEmpty()) {
+        if (processes.isEmpty() && largeResults == null && largeWorkload == null) {
             showAlert("Export Error", "No data to export.");
             return;
         }
@@ -211,19 +604,13 @@ public class MainController implements Initializable {
 
         File file = fileChooser.showSaveDialog(getStage());
         if (file != null) {
-            try (PrintWriter writer = new PrintWriter(file)) {
-                // Write header
-                writer.println("Process ID,Arrival Time,Burst Time,Completion Time,Turnaround Time,Waiting Time");
-
-                // Write data
-                for (Process process : processes) {
-                    writer.printf("%s,%d,%d,%d,%d,%d%n",
-                            process.getProcessId(),
-                            process.getArrivalTime(),
-                            process.getBurstTime(),
-                            process.getCompletionTime(),
-                            process.getTurnaroundTime(),
-                            process.getWaitingTime());
+            try (Writer writer = new BufferedWriter(new FileWriter(file))) {
+                if (largeResults != null) {
+                    ResultCsv.write(largeResults.getColumns(), writer);
+                } else if (largeWorkload != null) {
+                    ResultCsv.write(workload, writer);
+                } else {
+                    ResultCsv.write(processes, writer);
                 }
 
                 showAlert("Export Successful", "Results exported to: " + file.getAbsolutePath());
@@ -251,18 +638,74 @@ public class MainController implements Initializable {
 
         File file = fileChooser.showSaveDialog(getStage());
         if (file != null) {
-            boolean success = ganttChartController.saveAsImage(file);
-            if (success) {
-                showAlert("Save Successful", "Gantt chart saved to: " + file.getAbsolutePath());
+            GanttChartController.ImageExport export = ganttChartController.saveAsImage(file);
+            if (export != null) {
+                String message = "Gantt chart saved to: " + file.getAbsolutePath();
+                if (export.scaledDown()) {
+                    message += String.format("%nThe timeline is too long for full resolution; it was scaled to "
+                            + "%.3f px per time unit (%,d px wide).", export.pixelsPerTimeUnit(), export.width());
+                }
+                if (export.truncated()) {
+                    message += String.format("%nOnly the first %,d of %,d lane rows fit in the image; group the "
+                            + "lanes to include the rest.", export.rowsWritten(), export.rowCount());
+                }
+                showAlert("Save Successful", message);
             } else {
                 showAlert("Save Error", "Failed to save Gantt chart. Please try again.");
             }
         }
     }
 
-    private void updateProcessTable(List<Process> updatedProcesses) {
-        processes.clear();
-        processes.addAll(updatedProcesses);
+    private void updateProcessTable(ProcessColumns results) {
+        if (results.size() > LARGE_RESULT_THRESHOLD) {
+            // Columnar mode: the workload list is left alone, the table shows the result columns
+            largeWorkload = null;
+            largeResults = new ResultTableList(results)
+                    .filtered(resultFilterField.getText().trim());
+            processTable.getSortOrder().clear();
+            processTable.setItems(largeResults);
+            return;
+        }
+        showWorkloadTable();
+        List<Process> rows = new ArrayList<>(results.size());
+        for (int row = 0; row < results.size(); row++) {
+            rows.add(results.toProcess(row));
+        }
+        processes.setAll(rows); // one change notification
+    }
+
+    /**
+     * Mirror the workload into the table: appended processes are added, anything else is one setAll.
+     * Above {@link #LARGE_RESULT_THRESHOLD} processes the table reads the registry's columns instead, and
+     * only the rows it shows become {@link Process} objects.
+     */
+    private void onWorkloadChanged(WorkloadRegistry registry, int firstAppended) {
+        if (registry.size() > LARGE_RESULT_THRESHOLD) {
+            processes.clear();
+            largeResults = null;
+            largeWorkload = new ResultTableList(registry).filtered(resultFilterField.getText().trim());
+            processTable.setItems(largeWorkload);
+            processTable.sort(); // keep the user's sort: the policy sorts the new list's columns
+            return;
+        }
+        showWorkloadTable();
+        if (firstAppended >= 0 && firstAppended == processes.size()) {
+            processes.addAll(registry.toProcesses(firstAppended, registry.size()));
+        } else {
+            processes.setAll(registry.toProcesses());
+        }
+    }
+
+    /**
+     * Leave columnar mode and show the (filtered, sortable) process list again.
+     */
+    private void showWorkloadTable() {
+        largeResults = null;
+        largeWorkload = null;
+        if (processTable.getItems() != sortedProcesses) {
+            processTable.getSortOrder().clear();
+            processTable.setItems(sortedProcesses);
+        }
     }
 
     private void updateMetrics(Metrics metrics) {
@@ -0,0 +1,199 @@
+package org.app.roundrobin.controller;
+
+import javafx.collections.ObservableListBase;
+import org.app.roundrobin.model.Process;
+import org.app.roundrobin.model.ProcessColumns;
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only table model over {@link ProcessColumns} for large result sets, or over a large
+ * {@link WorkloadRegistry} before it has been run (times after the burst read as zero).
+ * Rows are an int permutation of the columns; {@link Process} objects are only
+ * materialized for rows the table actually asks for (and kept in a small cache).
+ * Sorting packs (key, row) into longs and sorts them as primitives.
+ */
+class ResultTableList extends ObservableListBase<Process> {
+
+    private static final int CACHE_SIZE = 512; // power of two; comfortably more than visible rows
+
+    /**
+     * What the list reads: an ID and int columns per row, and a {@link Process} for each row that is shown.
+     */
+    private interface Rows {
+        int size();
+        String getProcessId(int row);
+        int getInt(ProcessColumns.Column column, int row);
+        Process toProcess(int row);
+    }
+
+    private final Rows rows;
+    private final ProcessColumns columns; // null over a workload
+    private final String idPrefix;
+    private int[] order;
+    private ProcessColumns.Column sortColumn;
+    private boolean ascending = true;
+
+    private final int[] cachedRows = new int[CACHE_SIZE];
+    private final Process[] cachedProcesses = new Process[CACHE_SIZE];
+
+    // Rank of each row by process ID, built on the first ID sort
+    private int[] idRanks;
+
+    ResultTableList(ProcessColumns columns) {
+        this(new Rows() {
+            @Override public int size() { return columns.size(); }
+            @Override public String getProcessId(int row) { return columns.getProcessId(row); }
+            @Override public int getInt(ProcessColumns.Column column, int row) { return columns.getInt(column, row); }
+            @Override public Process toProcess(int row) { return columns.toProcess(row); }
+        }, columns, "", null, null, true);
+    }
+
+    /**
+     * A list over the workload as it is now; the registry must not change while the list is shown.
+     */
+    ResultTableList(WorkloadRegistry workload) {
+        this(new Rows() {
+            @Override public int size() { return workload.size(); }
+            @Override public String getProcessId(int row) { return workload.getProcessId(row); }
+            @Override public int getInt(ProcessColumns.Column column, int row) {
+                return switch (column) {
+                    case ARRIVAL_TIME -> workload.getArrivalTime(row);
+                    case BURST_TIME -> workload.getBurstTime(row);
+                    case PROCESS_ID -> throw new IllegalArgumentException("Process ID is not an int column");
+                    default -> 0; // not run yet
+                };
+            }
+            @Override public Process toProcess(int row) {
+                return new Process(workload.getProcessId(row), workload.getArrivalTime(row), workload.getBurstTime(row));
+            }
+        }, null, "", null, null, true);
+    }
+
+    private ResultTableList(Rows rows, ProcessColumns columns, String idPrefix, int[] idRanks,
+                            ProcessColumns.Column sortColumn, boolean ascending) {
+        this.rows = rows;
+        this.columns = columns;
+        this.idPrefix = idPrefix;
+        this.idRanks = idRanks;
+        this.order = idPrefix.isEmpty()
+                ? IntStream.range(0, rows.size()).toArray()
+                : IntStream.range(0, rows.size()).parallel()
+                        .filter(row -> rows.getProcessId(row).startsWith(idPrefix))
+                        .toArray();
+        Arrays.fill(cachedRows, -1);
+        if (sortColumn != null) {
+            this.sortColumn = sortColumn;
+            this.ascending = ascending;
+            this.order = sortedOrder(order, sortColumn, ascending);
+        }
+    }
+
+    /**
+     * The result columns shown, or null when the list is over a workload.
+     */
+    ProcessColumns getColumns() { return columns; }
+
+    /**
+     * A new list over the same columns showing only IDs starting with {@code prefix}, with the current sort applied.
+     */
+    ResultTableList filtered(String prefix) {
+        return new ResultTableList(rows, columns, prefix == null ? "" : prefix, idRanks, sortColumn, ascending);
+    }
+
+    /**
+     * Sort by a column, or restore column order when {@code column} is null; fires one permutation change.
+     */
+    void sortBy(ProcessColumns.Column column, boolean ascending) {
+        if (column == sortColumn && ascending == this.ascending) {
+            return;
+        }
+        this.sortColumn = column;
+        this.ascending = ascending;
+        int[] sorted = column == null ? Arrays.stream(order).sorted().toArray() : sortedOrder(order, column, ascending);
+
+        // permutation[oldIndex] = newIndex
+        int[] positions = new int[rows.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            positions[sorted[i]] = i;
+        }
+        int[] permutation = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            permutation[i] = positions[order[i]];
+        }
+
+        order = sorted;
+        Arrays.fill(cachedRows, -1);
+        beginChange();
+        nextPermutation(0, order.length, permutation);
+        endChange();
+    }
+
+    private int[] sortedOrder(int[] shown, ProcessColumns.Column column, boolean ascending) {
+        long[] packed = new long[shown.length];
+        if (column == ProcessColumns.Column.PROCESS_ID) {
+            int[] ranks = idRanks();
+            for (int i = 0; i < shown.length; i++) {
+                packed[i] = pack(ranks[shown[i]], shown[i], ascending);
+            }
+        } else {
+            for (int i = 0; i < shown.length; i++) {
+                packed[i] = pack(rows.getInt(column, shown[i]), shown[i], ascending);
+            }
+        }
+        Arrays.parallelSort(packed);
+        int[] sorted = new int[shown.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[i] = (int) packed[i];
+        }
+        return sorted;
+    }
+
+    /**
+     * Key in the high 32 bits, row in the low 32 bits: ties keep row order in both directions.
+     */
+    private static long pack(int key, int row, boolean ascending) {
+        long k = ascending ? key : ~key;
+        return (k << 32) | row;
+    }
+
+    private int[] idRanks() {
+        if (idRanks == null) {
+            Integer[] byId = new Integer[rows.size()];
+            Arrays.setAll(byId, i -> i);
+            Arrays.parallelSort(byId, Comparator.comparing(rows::getProcessId));
+            int[] ranks = new int[byId.length];
+            for (int rank = 0; rank < byId.length; rank++) {
+                ranks[byId[rank]] = rank;
+            }
+            idRanks = ranks;
+        }
+        return idRanks;
+    }
+
+    @Override
+    public Process get(int index) {
+        int row = order[index];
+        int slot = row & (CACHE_SIZE - 1);
+        if (cachedRows[slot] != row) {
+            cachedProcesses[slot] = rows.toProcess(row);
+            cachedRows[slot] = row;
+        }
+        return cachedProcesses[slot];
+    }
+
+    @Override
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * Column row shown at a display index, without materializing it.
+     */
+    int rowAt(int index) {
+        return order[index];
+    }
+}
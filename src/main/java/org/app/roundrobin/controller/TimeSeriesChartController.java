@@ -0,0 +1,166 @@
+package org.app.roundrobin.controller;
+
+import javafx.application.Platform;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.ScheduleStepper;
+import org.app.roundrobin.model.WorkloadRegistry;
+import org.app.roundrobin.series.Lttb;
+import org.app.roundrobin.series.TimeSeriesRecorder;
+import org.app.roundrobin.utils.Constants;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Ready-queue length, CPU utilization and arrivals over time, one band each, under the Gantt chart.
+ * The series are recorded by a scheduling pass on a background thread and downsampled with
+ * {@link Lttb} to at most {@link #MAX_POINTS} points per band before drawing.
+ */
+public class TimeSeriesChartController {
+
+    private static final int MAX_POINTS = 2000;
+    private static final int BAND_HEIGHT = 70;
+    private static final int BAND_SPACING = 12;
+    private static final int MARGIN_LEFT = 120;
+    private static final int MARGIN_RIGHT = 30;
+    private static final int MARGIN_TOP = 10;
+    private static final int AXIS_HEIGHT = 24;
+    private static final Color[] BAND_COLORS = {Color.web("#e67e22"), Color.web("#27ae60"), Color.web("#2980b9")};
+
+    private static final ExecutorService SERIES_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "time-series");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Canvas canvas;
+    private final VBox container;
+    private long generation;
+
+    public TimeSeriesChartController() {
+        canvas = new Canvas(Constants.CANVAS_WIDTH, MARGIN_TOP + 3 * (BAND_HEIGHT + BAND_SPACING) + AXIS_HEIGHT);
+        container = new VBox(canvas);
+        container.setStyle("-fx-padding: 0 10 10 10; -fx-background-color: #ecf0f1;");
+        fillBackground();
+    }
+
+    public Node createNode() {
+        return container;
+    }
+
+    /**
+     * Record the series of {@code workload} under {@code quantum} in the background, then draw them.
+     * The workload is copied before returning; a later show or clear drops this one.
+     */
+    public void show(WorkloadRegistry workload, int quantum) {
+        long current = ++generation;
+        TimeSeriesRecorder series = new TimeSeriesRecorder();
+        ScheduleStepper pass = RoundRobinScheduler.stepper(workload, quantum, series);
+        CompletableFuture
+                .runAsync(pass::finish, SERIES_EXECUTOR)
+                .thenRun(() -> Platform.runLater(() -> {
+                    if (current == generation) {
+                        draw(series);
+                    }
+                }))
+                .exceptionally(e -> {
+                    System.err.println("Error recording time series: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    public void clear() {
+        generation++;
+        fillBackground();
+    }
+
+    private void fillBackground() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.WHITE);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    private void draw(TimeSeriesRecorder series) {
+        fillBackground();
+        int count = series.windowCount();
+        if (count == 0) {
+            return;
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double plotWidth = canvas.getWidth() - MARGIN_LEFT - MARGIN_RIGHT;
+        double scale = plotWidth / Math.max(1, series.endTime());
+
+        double[] x = new double[count];
+        for (int w = 0; w < count; w++) {
+            x[w] = Math.min(series.endTime(), series.windowStart(w) + series.windowWidth() / 2.0);
+        }
+        drawBand(gc, 0, "Ready queue", x, column(count, series::queueLength), scale);
+        drawBand(gc, 1, "CPU busy", x, column(count, series::utilization), scale);
+        drawBand(gc, 2, "Arrivals / " + series.windowWidth(), x, column(count, w -> series.arrivals(w)), scale);
+
+        double axisY = MARGIN_TOP + 3 * (BAND_HEIGHT + BAND_SPACING);
+        gc.setFill(Color.web("#2c3e50"));
+        gc.setFont(Font.font("Arial", 11));
+        gc.setTextBaseline(VPos.TOP);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.fillText("0", MARGIN_LEFT, axisY);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.fillText(String.valueOf(series.endTime()), MARGIN_LEFT + plotWidth, axisY);
+    }
+
+    private void drawBand(GraphicsContext gc, int band, String label, double[] x, double[] y, double scale) {
+        double top = MARGIN_TOP + band * (BAND_HEIGHT + BAND_SPACING);
+        double bottom = top + BAND_HEIGHT;
+        double max = 0;
+        for (double value : y) {
+            max = Math.max(max, value);
+        }
+
+        gc.setStroke(Color.web("#bdc3c7"));
+        gc.setLineWidth(1);
+        gc.strokeLine(MARGIN_LEFT, bottom, canvas.getWidth() - MARGIN_RIGHT, bottom);
+        gc.setFill(Color.web("#2c3e50"));
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        gc.fillText(label, 10, top);
+        gc.setFont(Font.font("Arial", 11));
+        gc.fillText("max " + String.format(Locale.ROOT, "%.2f", max), 10, top + 18);
+
+        int[] points = Lttb.downsample(x, y, y.length, MAX_POINTS);
+        double yScale = max > 0 ? BAND_HEIGHT / max : 0;
+        gc.setStroke(BAND_COLORS[band]);
+        gc.setLineWidth(1.5);
+        gc.beginPath();
+        for (int i = 0; i < points.length; i++) {
+            double px = MARGIN_LEFT + x[points[i]] * scale;
+            double py = bottom - y[points[i]] * yScale;
+            if (i == 0) {
+                gc.moveTo(px, py);
+            } else {
+                gc.lineTo(px, py);
+            }
+        }
+        gc.stroke();
+    }
+
+    private static double[] column(int count, IntToDoubleFunction value) {
+        double[] column = new double[count];
+        for (int w = 0; w < count; w++) {
+            column[w] = value.applyAsDouble(w);
+        }
+        return column;
+    }
+}
@@ -0,0 +1,112 @@
+package org.app.roundrobin.engine;
+
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Processes whose work alternates CPU and I/O bursts: {@code cpu, io, cpu, ..., cpu}.
+ * Like {@link WorkloadRegistry}, processes are dense int handles in insertion order; all burst
+ * sequences share one int column, with each process's slice given by an offset column.
+ */
+public class BurstWorkload {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> handles = new HashMap<>();
+
+    private String[] processIds = new String[INITIAL_CAPACITY];
+    private int[] arrivalTimes = new int[INITIAL_CAPACITY];
+    private int[] offsets = new int[INITIAL_CAPACITY + 1]; // offsets[h]..offsets[h + 1] are h's bursts
+    private int[] bursts = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * One CPU burst per process, as in the registry.
+     */
+    public static BurstWorkload of(WorkloadRegistry registry) {
+        BurstWorkload workload = new BurstWorkload();
+        for (int handle = 0; handle < registry.size(); handle++) {
+            workload.add(registry.getProcessId(handle), registry.getArrivalTime(handle), registry.getBurstTime(handle));
+        }
+        return workload;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Handle of a process, or -1 if no process has that ID.
+     */
+    public int handleOf(String processId) {
+        Integer handle = handles.get(processId);
+        return handle == null ? -1 : handle;
+    }
+
+    /**
+     * Add one process and return its handle.
+     *
+     * @param bursts alternating CPU and I/O burst lengths, starting and ending with CPU; all positive
+     */
+    public int add(String processId, int arrivalTime, int... bursts) {
+        if (processId == null || processId.isEmpty()) {
+            throw new IllegalArgumentException("Process ID must not be empty");
+        }
+        if (arrivalTime < 0 || bursts.length % 2 == 0) {
+            throw new IllegalArgumentException("Invalid arrival or burst sequence for process " + processId);
+        }
+        for (int burst : bursts) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("Invalid burst length for process " + processId);
+            }
+        }
+        if (handles.putIfAbsent(processId, size) != null) {
+            throw new IllegalArgumentException("Duplicate process ID: " + processId);
+        }
+
+        if (size == processIds.length) {
+            int capacity = processIds.length * 2;
+            processIds = Arrays.copyOf(processIds, capacity);
+            arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+        }
+        int start = offsets[size];
+        if (start + bursts.length > this.bursts.length) {
+            this.bursts = Arrays.copyOf(this.bursts, Math.max(this.bursts.length * 2, start + bursts.length));
+        }
+        System.arraycopy(bursts, 0, this.bursts, start, bursts.length);
+        processIds[size] = processId;
+        arrivalTimes[size] = arrivalTime;
+        offsets[size + 1] = start + bursts.length;
+        return size++;
+    }
+
+    public String getProcessId(int handle) { return processIds[checkHandle(handle)]; }
+    public int getArrivalTime(int handle) { return arrivalTimes[checkHandle(handle)]; }
+    public int getBurstCount(int handle) { return offsets[checkHandle(handle) + 1] - offsets[handle]; }
+
+    /**
+     * Length of burst {@code index} of a process; even indexes are CPU bursts, odd ones I/O.
+     */
+    public int getBurst(int handle, int index) {
+        if (index < 0 || index >= getBurstCount(handle)) {
+            throw new IndexOutOfBoundsException("Invalid burst index: " + index);
+        }
+        return bursts[offsets[handle] + index];
+    }
+
+    // Column access for the engine; the arrays may be longer than the workload
+    String[] ids() { return processIds; }
+    int[] arrivals() { return arrivalTimes; }
+    int[] offsets() { return offsets; }
+    int[] bursts() { return bursts; }
+
+    private int checkHandle(int handle) {
+        if (handle < 0 || handle >= size) {
+            throw new IndexOutOfBoundsException("Invalid process handle: " + handle);
+        }
+        return handle;
+    }
+}
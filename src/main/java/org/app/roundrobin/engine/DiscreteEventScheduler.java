@@ -0,0 +1,234 @@
+package org.app.roundrobin.engine;
+
+import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.model.Metrics;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Discrete-event simulation of processes with CPU and I/O bursts, Round Robin on the CPU.
+ * Every future event is a timer in a {@link TimingWheel}: a process's arrival, then each I/O completion.
+ * A process waits on at most one timer at a time, so the wheel needs one slot per process and
+ * inserting or expiring a timer never touches a shared priority queue.
+ * <p>
+ * Ordering matches {@link org.app.roundrobin.algorithm.RoundRobinScheduler}: processes that become ready
+ * during a slice queue ahead of the preempted one, and equal-time events keep their scheduling order
+ * (arrivals in handle order). A workload of single CPU bursts therefore yields the same schedule.
+ * While every process is blocked on I/O or not yet arrived the CPU is IDLE.
+ */
+public final class DiscreteEventScheduler {
+
+    private static final int IDLE = -1;
+
+    private DiscreteEventScheduler() {
+    }
+
+    public static EngineResult schedule(BurstWorkload workload, int quantum) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Quantum must be greater than 0");
+        }
+        return new Run(workload, quantum).run();
+    }
+
+    private static final class Run {
+        private final int n;
+        private final int quantum;
+        private final int[] arrivals;
+        private final int[] offsets;
+        private final int[] bursts;
+        private final TimingWheel timers;
+
+        private final int[] burstIndex;    // current CPU burst of each process
+        private final int[] remaining;     // left of that burst
+        private final int[] readySince;    // when the process last became ready
+        private final long[] readyWait;
+        private final long[] ioTime;
+        private final int[] completion;
+        private final int[] ring;
+        private int head;
+        private int queued;
+
+        private int[] sliceHandles = new int[16];
+        private int[] sliceStarts = new int[16];
+        private int[] sliceEnds = new int[16];
+        private int sliceCount;
+
+        Run(BurstWorkload workload, int quantum) {
+            this.n = workload.size();
+            this.quantum = quantum;
+            this.arrivals = workload.arrivals();
+            this.offsets = workload.offsets();
+            this.bursts = workload.bursts();
+            this.timers = new TimingWheel(n, 0);
+            this.burstIndex = new int[n];
+            this.remaining = new int[n];
+            this.readySince = new int[n];
+            this.readyWait = new long[n];
+            this.ioTime = new long[n];
+            this.completion = new int[n];
+            this.ring = new int[Math.max(n, 1)];
+        }
+
+        EngineResult run() {
+            for (int handle = 0; handle < n; handle++) {
+                burstIndex[handle] = offsets[handle];
+                remaining[handle] = bursts[offsets[handle]];
+                readySince[handle] = arrivals[handle];
+                timers.schedule(handle, arrivals[handle]);
+            }
+
+            int currentTime = 0;
+            int completed = 0;
+            long busyTime = 0;
+            while (completed < n) {
+                timers.advance(currentTime, this::enqueue);
+                if (queued == 0) {
+                    // Everyone is blocked or yet to arrive: idle until the next timer
+                    int next = timers.nextExpiry();
+                    record(IDLE, currentTime, next);
+                    currentTime = next;
+                    continue;
+                }
+
+                int current = ring[head];
+                head = (head + 1) % ring.length;
+                queued--;
+                readyWait[current] += currentTime - readySince[current];
+
+                int executionTime = Math.min(remaining[current], quantum);
+                int startTime = currentTime;
+                currentTime += executionTime;
+                remaining[current] -= executionTime;
+                busyTime += executionTime;
+                record(current, startTime, currentTime);
+
+                // Arrivals and I/O completions during the slice queue ahead of the preempted process
+                timers.advance(currentTime, this::enqueue);
+
+                if (remaining[current] > 0) {
+                    readySince[current] = currentTime;
+                    enqueue(current);
+                } else if (burstIndex[current] + 1 < offsets[current + 1]) {
+                    // CPU burst done: block for the I/O burst, then continue with the next CPU burst
+                    int io = bursts[burstIndex[current] + 1];
+                    burstIndex[current] += 2;
+                    remaining[current] = bursts[burstIndex[current]];
+                    ioTime[current] += io;
+                    readySince[current] = currentTime + io;
+                    timers.schedule(current, currentTime + io);
+                } else {
+                    completion[current] = currentTime;
+                    completed++;
+                }
+            }
+            return toResult(busyTime);
+        }
+
+        private void enqueue(int handle) {
+            ring[(head + queued) % ring.length] = handle;
+            queued++;
+        }
+
+        private void record(int handle, int start, int end) {
+            if (sliceCount == sliceHandles.length) {
+                int capacity = sliceCount * 2;
+                sliceHandles = Arrays.copyOf(sliceHandles, capacity);
+                sliceStarts = Arrays.copyOf(sliceStarts, capacity);
+                sliceEnds = Arrays.copyOf(sliceEnds, capacity);
+            }
+            sliceHandles[sliceCount] = handle;
+            sliceStarts[sliceCount] = start;
+            sliceEnds[sliceCount] = end;
+            sliceCount++;
+        }
+
+        private EngineResult toResult(long busyTime) {
+            long totalWaitingTime = 0;
+            long totalTurnaroundTime = 0;
+            long[] cpuTime = new long[n];
+            for (int handle = 0; handle < n; handle++) {
+                for (int i = offsets[handle]; i < offsets[handle + 1]; i += 2) {
+                    cpuTime[handle] += bursts[i];
+                }
+                totalWaitingTime += readyWait[handle];
+                totalTurnaroundTime += completion[handle] - arrivals[handle];
+            }
+            int totalTime = sliceCount == 0 ? 0 : sliceEnds[sliceCount - 1];
+            Metrics metrics = new Metrics(
+                    n == 0 ? 0 : (double) totalWaitingTime / n,
+                    n == 0 ? 0 : (double) totalTurnaroundTime / n,
+                    totalTime > 0 ? (double) busyTime / totalTime * 100 : 0.0,
+                    totalTime > 0 ? (double) n / totalTime : 0.0,
+                    n, totalTime);
+            return new EngineResult(Arrays.copyOf(arrivals, n), completion, cpuTime, ioTime, readyWait,
+                    Arrays.copyOf(sliceHandles, sliceCount), Arrays.copyOf(sliceStarts, sliceCount),
+                    Arrays.copyOf(sliceEnds, sliceCount), metrics);
+        }
+    }
+
+    /**
+     * Outcome of one run, by workload handle. Waiting time is time spent ready but not running,
+     * so it excludes I/O; turnaround is completion minus arrival.
+     */
+    public static final class EngineResult {
+        private final int[] arrivals;
+        private final int[] completion;
+        private final long[] cpuTime;
+        private final long[] ioTime;
+        private final long[] waitingTime;
+        private final int[] sliceHandles;
+        private final int[] sliceStarts;
+        private final int[] sliceEnds;
+        private final Metrics metrics;
+
+        private EngineResult(int[] arrivals, int[] completion, long[] cpuTime, long[] ioTime, long[] waitingTime,
+                             int[] sliceHandles, int[] sliceStarts, int[] sliceEnds, Metrics metrics) {
+            this.arrivals = arrivals;
+            this.completion = completion;
+            this.cpuTime = cpuTime;
+            this.ioTime = ioTime;
+            this.waitingTime = waitingTime;
+            this.sliceHandles = sliceHandles;
+            this.sliceStarts = sliceStarts;
+            this.sliceEnds = sliceEnds;
+            this.metrics = metrics;
+        }
+
+        public Metrics getMetrics() { return metrics; }
+        public int getProcessCount() { return completion.length; }
+
+        public int getCompletionTime(int handle) { return completion[handle]; }
+        public int getTurnaroundTime(int handle) { return completion[handle] - arrivals[handle]; }
+        public long getWaitingTime(int handle) { return waitingTime[handle]; }
+        public long getCpuTime(int handle) { return cpuTime[handle]; }
+        public long getIoTime(int handle) { return ioTime[handle]; }
+
+        public int getSliceCount() { return sliceHandles.length; }
+
+        /**
+         * Handle running in a slice, or -1 for IDLE.
+         */
+        public int getSliceHandle(int slice) { return sliceHandles[slice]; }
+        public int getSliceStart(int slice) { return sliceStarts[slice]; }
+        public int getSliceEnd(int slice) { return sliceEnds[slice]; }
+
+        /**
+         * CPU slices as Gantt entries, named from {@code workload}; entries are built on access.
+         */
+        public List<GanttEntry> getGanttChart(BurstWorkload workload) {
+            String[] names = workload.ids();
+            return new AbstractList<>() {
+                @Override
+                public GanttEntry get(int slice) {
+                    int handle = sliceHandles[slice];
+                    return new GanttEntry(handle == IDLE ? "IDLE" : names[handle], sliceStarts[slice], sliceEnds[slice]);
+                }
+
+                @Override
+                public int size() { return sliceHandles.length; }
+            };
+        }
+    }
+}
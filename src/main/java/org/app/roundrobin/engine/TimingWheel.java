@@ -0,0 +1,169 @@
+package org.app.roundrobin.engine;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Hierarchical timing wheel of int handles keyed by non-negative int expiry times.
+ * Four levels of 256 slots cover the whole int range: a timer sits at the level of the highest
+ * byte in which its expiry differs from the wheel's current time, and moves down a level when
+ * the wheel reaches its slot (a cascade). Insert is O(1); each timer cascades at most three times;
+ * finding the next expiry scans occupancy bitmaps, never the timers.
+ * <p>
+ * Each handle may have at most one pending timer. Timers with equal expiry fire in the order they
+ * were scheduled.
+ */
+final class TimingWheel {
+
+    private static final int BITS = 8;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int NONE = -1;
+
+    // Per-level FIFO lists threaded through next[] by handle
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private final int[] tails = new int[LEVELS * SLOTS];
+    private final long[] occupied = new long[LEVELS * SLOTS / Long.SIZE];
+    private final int[] next;
+    private final int[] expiry;
+
+    private int now;
+    private int size;
+
+    TimingWheel(int capacity, int startTime) {
+        if (startTime < 0) {
+            throw new IllegalArgumentException("Start time must be non-negative");
+        }
+        this.next = new int[capacity];
+        this.expiry = new int[capacity];
+        this.now = startTime;
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+    }
+
+    int size() { return size; }
+    boolean isEmpty() { return size == 0; }
+
+    /**
+     * Schedule {@code handle} to fire at {@code time}, which must not be before the last time advanced to.
+     */
+    void schedule(int handle, int time) {
+        if (time < now) {
+            throw new IllegalArgumentException("Timer at " + time + " is before wheel time " + now);
+        }
+        expiry[handle] = time;
+        place(handle, time);
+        size++;
+    }
+
+    /**
+     * Earliest pending expiry, or -1 if no timers are pending. May cascade timers down a level.
+     */
+    int nextExpiry() {
+        return earliest(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Fire every timer expiring at or before {@code time}, in expiry order.
+     */
+    void advance(int time, IntConsumer fired) {
+        int due;
+        while ((due = earliest(time)) >= 0 && due <= time) {
+            now = due;
+            int index = due & MASK;
+            int handle = heads[index];
+            heads[index] = NONE;
+            tails[index] = NONE;
+            clearOccupied(index);
+            while (handle != NONE) {
+                int following = next[handle];
+                size--;
+                fired.accept(handle);
+                handle = following;
+            }
+        }
+    }
+
+    /**
+     * Earliest pending expiry, cascading only slots that start at or before {@code limit}, so wheel time
+     * never passes {@code limit}; -1 if nothing is pending or the earliest timer lies beyond the limit.
+     */
+    private int earliest(int limit) {
+        while (size > 0) {
+            int slot = firstOccupied(0, now & MASK);
+            if (slot >= 0) {
+                return (now & ~MASK) | slot;
+            }
+            // Nothing left in this level-0 window: bring the next occupied higher slot down
+            boolean cascaded = false;
+            for (int level = 1; level < LEVELS && !cascaded; level++) {
+                int shift = level * BITS;
+                int from = ((now >>> shift) & MASK) + 1;
+                slot = from < SLOTS ? firstOccupied(level, from) : -1;
+                if (slot >= 0) {
+                    int upper = level + 1 < LEVELS ? now & (-1 << (shift + BITS)) : 0;
+                    int start = upper | (slot << shift);
+                    if (start > limit) {
+                        return -1;
+                    }
+                    cascade(level, slot, start);
+                    cascaded = true;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void cascade(int level, int slot, int start) {
+        int index = level * SLOTS + slot;
+        int handle = heads[index];
+        heads[index] = NONE;
+        tails[index] = NONE;
+        clearOccupied(index);
+
+        // Wheel time moves to the start of the slot; no timer is earlier than that
+        now = start;
+        while (handle != NONE) {
+            int following = next[handle];
+            place(handle, expiry[handle]);
+            handle = following;
+        }
+    }
+
+    private void place(int handle, int time) {
+        int difference = time ^ now;
+        int level = difference == 0 ? 0 : (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(difference)) / BITS;
+        int index = level * SLOTS + ((time >>> (level * BITS)) & MASK);
+        next[handle] = NONE;
+        if (tails[index] == NONE) {
+            heads[index] = handle;
+            occupied[index >>> 6] |= 1L << index;
+        } else {
+            next[tails[index]] = handle;
+        }
+        tails[index] = handle;
+    }
+
+    private int firstOccupied(int level, int fromSlot) {
+        int from = level * SLOTS + fromSlot;
+        int end = (level + 1) * SLOTS;
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return index < end ? index - level * SLOTS : -1;
+            }
+            word++;
+            if ((word << 6) >= end) {
+                return -1;
+            }
+            bits = occupied[word];
+        }
+    }
+
+    private void clearOccupied(int index) {
+        occupied[index >>> 6] &= ~(1L << index);
+    }
+}
@@ -0,0 +1,62 @@
+package org.app.roundrobin.farm;
+
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.SimulationResultCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Frames exchanged between {@link SimulationFarm} and a {@link FarmWorker} over the worker's stdin/stdout.
+ * <pre>
+ * job:    int jobId, UTF workload path, int quantum, UTF policy   (jobId -1 asks the worker to exit)
+ * result: int jobId, byte status, then an encoded result (OK) or a UTF message (FAILED)
+ * </pre>
+ */
+final class FarmProtocol {
+
+    static final int HELLO = 0x52524657; // "RRFW", sent once by a worker when it is ready
+    static final int SHUTDOWN = -1;
+    static final byte OK = 0;
+    static final byte FAILED = 1;
+
+    private FarmProtocol() {
+    }
+
+    record Job(int id, String workloadPath, int quantum, String policy) { }
+
+    static void writeJob(DataOutput out, Job job) throws IOException {
+        out.writeInt(job.id());
+        out.writeUTF(job.workloadPath());
+        out.writeInt(job.quantum());
+        out.writeUTF(job.policy());
+    }
+
+    /**
+     * Next job, or null when the coordinator asked the worker to exit.
+     */
+    static Job readJob(DataInput in) throws IOException {
+        int id = in.readInt();
+        if (id == SHUTDOWN) {
+            return null;
+        }
+        return new Job(id, in.readUTF(), in.readInt(), in.readUTF());
+    }
+
+    static void writeShutdown(DataOutput out) throws IOException {
+        out.writeInt(SHUTDOWN);
+    }
+
+    static void writeResult(DataOutput out, int jobId, RoundRobinScheduler.SimulationResult result) throws IOException {
+        out.writeInt(jobId);
+        out.writeByte(OK);
+        SimulationResultCodec.write(result, out);
+    }
+
+    static void writeFailure(DataOutput out, int jobId, String message) throws IOException {
+        out.writeInt(jobId);
+        out.writeByte(FAILED);
+        out.writeUTF(message == null ? "unknown error" : message);
+    }
+}
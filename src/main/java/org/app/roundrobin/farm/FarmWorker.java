@@ -0,0 +1,85 @@
+package org.app.roundrobin.farm;
+
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.SchedulerEngine;
+import org.app.roundrobin.algorithm.SimulationCache;
+import org.app.roundrobin.model.WorkloadRegistry;
+import org.app.roundrobin.utils.WorkloadCsv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Worker JVM entry point: reads jobs from stdin, schedules them and writes results to stdout.
+ * Stdout carries only protocol frames; anything printed goes to stderr.
+ * The last workload file is kept parsed, since sweeps send the same file with different quanta.
+ */
+public final class FarmWorker {
+
+    private Path loadedPath;
+    private FileTime loadedModified;
+    private WorkloadRegistry loadedWorkload;
+    private final SchedulerEngine engine = new SchedulerEngine(); // one job at a time, buffers reused
+
+    private FarmWorker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(FileDescriptor.in), 64 * 1024));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 64 * 1024));
+        System.setOut(System.err);
+
+        out.writeInt(FarmProtocol.HELLO);
+        out.flush();
+        new FarmWorker().serve(in, out);
+    }
+
+    private void serve(DataInputStream in, DataOutputStream out) throws IOException {
+        while (true) {
+            FarmProtocol.Job job;
+            try {
+                job = FarmProtocol.readJob(in);
+            } catch (EOFException e) {
+                return; // coordinator went away
+            }
+            if (job == null) {
+                return;
+            }
+
+            RoundRobinScheduler.SimulationResult result;
+            try {
+                if (!SimulationCache.POLICY_ROUND_ROBIN.equals(job.policy())) {
+                    throw new IllegalArgumentException("Unsupported policy " + job.policy());
+                }
+                result = engine.schedule(workload(Path.of(job.workloadPath())), job.quantum());
+            } catch (IOException | RuntimeException e) {
+                FarmProtocol.writeFailure(out, job.id(), e.getMessage());
+                out.flush();
+                continue;
+            }
+            FarmProtocol.writeResult(out, job.id(), result);
+            out.flush();
+        }
+    }
+
+    private WorkloadRegistry workload(Path path) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(path);
+        if (!path.equals(loadedPath) || !modified.equals(loadedModified)) {
+            loadedWorkload = null; // let the old one go before parsing the next
+            loadedWorkload = WorkloadCsv.read(path);
+            loadedPath = path;
+            loadedModified = modified;
+        }
+        return loadedWorkload;
+    }
+}
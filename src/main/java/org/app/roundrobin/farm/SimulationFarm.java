@@ -0,0 +1,306 @@
+package org.app.roundrobin.farm;
+
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.SimulationCache;
+import org.app.roundrobin.algorithm.SimulationResultCodec;
+import org.app.roundrobin.model.Metrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs simulation jobs (workload file + quantum) on a pool of local worker JVMs, each with its own heap.
+ * Jobs wait in one shared queue; each worker slot takes the next job as soon as its worker is free,
+ * so faster workers simply take more. A job whose worker dies is retried on a freshly spawned worker,
+ * up to {@link #MAX_ATTEMPTS} times. Results come back in the {@link SimulationResultCodec} format.
+ */
+public class SimulationFarm implements AutoCloseable {
+
+    public static final int MAX_ATTEMPTS = 3;
+
+    private static final PendingJob STOP = new PendingJob(null, null);
+    private static final long WORKER_EXIT_TIMEOUT_SECONDS = 5;
+
+    private final List<String> workerCommand;
+    private final BlockingQueue<PendingJob> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> drivers = new ArrayList<>();
+    private final AtomicInteger nextJobId = new AtomicInteger();
+    private final AtomicInteger workersSpawned = new AtomicInteger();
+    private boolean closed; // guarded by this, so no job is queued behind the STOP markers
+
+    public SimulationFarm(int workers) {
+        this(workers, List.of());
+    }
+
+    /**
+     * @param jvmOptions extra options for each worker JVM, e.g. {@code -Xmx8g}
+     */
+    public SimulationFarm(int workers, List<String> jvmOptions) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        this.workerCommand = workerCommand(jvmOptions);
+        for (int slot = 0; slot < workers; slot++) {
+            Thread driver = new Thread(this::drive, "simulation-farm-" + slot);
+            driver.setDaemon(true);
+            driver.start();
+            drivers.add(driver);
+        }
+    }
+
+    /**
+     * Queue one Round Robin job; the workload file must be readable by the workers.
+     */
+    public CompletableFuture<RoundRobinScheduler.SimulationResult> submit(Path workload, int quantum) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Quantum must be greater than 0");
+        }
+        String path = workload.toAbsolutePath().toString();
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Farm is closed");
+            }
+            FarmProtocol.Job job = new FarmProtocol.Job(nextJobId.getAndIncrement(), path, quantum,
+                    SimulationCache.POLICY_ROUND_ROBIN);
+            PendingJob pending = new PendingJob(job, new CompletableFuture<>());
+            queue.add(pending);
+            return pending.future;
+        }
+    }
+
+    /**
+     * One job per quantum over the same workload; futures are in quantum order.
+     */
+    public List<CompletableFuture<RoundRobinScheduler.SimulationResult>> sweep(Path workload, int... quanta) {
+        List<CompletableFuture<RoundRobinScheduler.SimulationResult>> futures = new ArrayList<>(quanta.length);
+        for (int quantum : quanta) {
+            futures.add(submit(workload, quantum));
+        }
+        return futures;
+    }
+
+    public int getWorkersSpawned() { return workersSpawned.get(); }
+
+    /**
+     * Finish the queued jobs, then stop the workers. If the calling thread is interrupted while waiting, the
+     * drivers are interrupted too (each shuts its worker down), jobs still queued fail with
+     * {@link RejectedExecutionException} and the interrupt flag is set again.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (int i = 0; i < drivers.size(); i++) {
+                queue.add(STOP);
+            }
+        }
+        try {
+            for (Thread driver : drivers) {
+                driver.join();
+            }
+        } catch (InterruptedException e) {
+            for (Thread driver : drivers) {
+                driver.interrupt();
+            }
+            Thread.currentThread().interrupt();
+        } finally {
+            rejectQueued();
+        }
+    }
+
+    private void rejectQueued() {
+        PendingJob pending;
+        while ((pending = queue.poll()) != null) {
+            if (pending != STOP) {
+                pending.future.completeExceptionally(new RejectedExecutionException("Farm was closed"));
+            }
+        }
+    }
+
+    private void drive() {
+        Worker worker = null;
+        try {
+            while (true) {
+                PendingJob pending = queue.take();
+                if (pending == STOP) {
+                    break;
+                }
+                if (pending.future.isDone()) {
+                    continue; // cancelled while queued
+                }
+                // Retries stay on this driver: re-queued, a job could land behind the STOP markers of close()
+                while (!pending.future.isDone()) {
+                    try {
+                        if (worker == null) {
+                            worker = spawn();
+                        }
+                        worker.run(pending);
+                    } catch (IOException e) {
+                        // Worker died or never started: replace it and give the job another try
+                        if (worker != null) {
+                            worker.destroy();
+                            worker = null;
+                        }
+                        if (++pending.attempts >= MAX_ATTEMPTS) {
+                            pending.future.completeExceptionally(new IOException(
+                                    "Job failed after " + MAX_ATTEMPTS + " attempts: " + e.getMessage(), e));
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (worker != null) {
+                worker.shutdown();
+            }
+        }
+    }
+
+    private Worker spawn() throws IOException {
+        ProcessBuilder builder = new ProcessBuilder(workerCommand);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        Process process = builder.start();
+        workersSpawned.incrementAndGet();
+        Worker worker = new Worker(process);
+        try {
+            if (worker.in.readInt() != FarmProtocol.HELLO) {
+                throw new IOException("Worker did not start the farm protocol");
+            }
+        } catch (IOException e) {
+            worker.destroy();
+            throw e;
+        }
+        return worker;
+    }
+
+    /**
+     * The command that starts this application's classes in a new JVM: module path when running as a module.
+     */
+    private static List<String> workerCommand(List<String> jvmOptions) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Djava.awt.headless=true");
+        command.addAll(jvmOptions);
+
+        Module module = FarmWorker.class.getModule();
+        String modulePath = System.getProperty("jdk.module.path");
+        if (module.isNamed() && modulePath != null) {
+            command.add("--module-path");
+            command.add(modulePath);
+            command.add("--module");
+            command.add(module.getName() + "/" + FarmWorker.class.getName());
+        } else {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(FarmWorker.class.getName());
+        }
+        return command;
+    }
+
+    private static final class PendingJob {
+        final FarmProtocol.Job job;
+        final CompletableFuture<RoundRobinScheduler.SimulationResult> future;
+        int attempts;
+
+        PendingJob(FarmProtocol.Job job, CompletableFuture<RoundRobinScheduler.SimulationResult> future) {
+            this.job = job;
+            this.future = future;
+        }
+    }
+
+    private static final class Worker {
+        final Process process;
+        final DataOutputStream out;
+        final DataInputStream in;
+
+        Worker(Process process) {
+            this.process = process;
+            this.out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream(), 64 * 1024));
+            this.in = new DataInputStream(new BufferedInputStream(process.getInputStream(), 64 * 1024));
+        }
+
+        /**
+         * Send one job and wait for its answer; IOException means the worker is unusable.
+         */
+        void run(PendingJob pending) throws IOException {
+            FarmProtocol.writeJob(out, pending.job);
+            out.flush();
+
+            int jobId = in.readInt();
+            if (jobId != pending.job.id()) {
+                throw new IOException("Worker answered job " + jobId + " instead of " + pending.job.id());
+            }
+            byte status = in.readByte();
+            if (status == FarmProtocol.OK) {
+                pending.future.complete(SimulationResultCodec.read(in));
+            } else if (status == FarmProtocol.FAILED) {
+                // The job itself failed (bad file, bad input): retrying would fail the same way
+                pending.future.completeExceptionally(new IllegalArgumentException(in.readUTF()));
+            } else {
+                throw new IOException("Unknown worker status " + status);
+            }
+        }
+
+        void shutdown() {
+            try {
+                FarmProtocol.writeShutdown(out);
+                out.flush();
+                if (!process.waitFor(WORKER_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (IOException e) {
+                process.destroyForcibly();
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void destroy() {
+            process.destroyForcibly();
+        }
+    }
+
+    /**
+     * Sweep a workload file over several quanta: {@code SimulationFarm <workload.csv> <workers> <q1,q2,...>}.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            System.err.println("Usage: SimulationFarm <workload.csv> <workers> <q1,q2,...>");
+            System.exit(2);
+        }
+        Path workload = Path.of(args[0]);
+        int workers = Integer.parseInt(args[1]);
+        String[] parts = args[2].split(",");
+        int[] quanta = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            quanta[i] = Integer.parseInt(parts[i].trim());
+        }
+
+        try (SimulationFarm farm = new SimulationFarm(workers)) {
+            List<CompletableFuture<RoundRobinScheduler.SimulationResult>> results = farm.sweep(workload, quanta);
+            System.out.println("quantum,avg_waiting,avg_turnaround,cpu_utilization,throughput,total_time");
+            for (int i = 0; i < quanta.length; i++) {
+                Metrics m = results.get(i).join().getMetrics();
+                System.out.printf("%d,%.4f,%.4f,%.4f,%.6f,%d%n", quanta[i], m.getAvgWaitingTime(),
+                        m.getAvgTurnaroundTime(), m.getCpuUtilization(), m.getThroughput(), m.getTotalTime());
+            }
+        }
+    }
+}
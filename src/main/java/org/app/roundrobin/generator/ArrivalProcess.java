@@ -0,0 +1,52 @@
+package org.app.roundrobin.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Gaps between consecutive arrivals. A gap may depend on the process's position in the stream
+ * (for phased patterns) but on nothing else, so any chunk of the stream can be generated on its own.
+ */
+@FunctionalInterface
+public interface ArrivalProcess {
+
+    /**
+     * Time from the previous arrival to process {@code index}'s arrival.
+     */
+    double gap(SplittableRandom random, long index);
+
+    /**
+     * Everything arrives at time 0.
+     */
+    static ArrivalProcess simultaneous() {
+        return (random, index) -> 0;
+    }
+
+    /**
+     * Poisson arrivals: exponential gaps with mean {@code 1 / rate}.
+     */
+    static ArrivalProcess poisson(double rate) {
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        double mean = 1 / rate;
+        return (random, index) -> exponential(random, mean);
+    }
+
+    /**
+     * Alternating phases: {@code burstLength} arrivals at {@code burstRate}, then {@code quietLength}
+     * arrivals at {@code quietRate}, and so on.
+     */
+    static ArrivalProcess bursty(double burstRate, int burstLength, double quietRate, int quietLength) {
+        if (!(burstRate > 0) || !(quietRate > 0) || burstLength <= 0 || quietLength <= 0) {
+            throw new IllegalArgumentException("Rates and phase lengths must be positive");
+        }
+        double burstMean = 1 / burstRate;
+        double quietMean = 1 / quietRate;
+        int period = burstLength + quietLength;
+        return (random, index) -> exponential(random, index % period < burstLength ? burstMean : quietMean);
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -Math.log(1 - random.nextDouble()) * mean;
+    }
+}
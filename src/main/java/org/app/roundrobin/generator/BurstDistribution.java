@@ -0,0 +1,54 @@
+package org.app.roundrobin.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Burst lengths; every sample is at least 1.
+ */
+@FunctionalInterface
+public interface BurstDistribution {
+
+    int sample(SplittableRandom random);
+
+    static BurstDistribution uniform(int min, int max) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("Invalid burst range " + min + ".." + max);
+        }
+        return random -> random.nextInt(min, max + 1);
+    }
+
+    static BurstDistribution exponential(double mean) {
+        if (!(mean > 0)) {
+            throw new IllegalArgumentException("Mean burst must be positive");
+        }
+        return random -> toBurst(-Math.log(1 - random.nextDouble()) * mean);
+    }
+
+    /**
+     * Heavy tail: {@code minimum / U^(1/alpha)}, capped at {@code cap}. Smaller alpha means a heavier tail.
+     */
+    static BurstDistribution pareto(double alpha, int minimum, int cap) {
+        if (!(alpha > 0) || minimum <= 0 || cap < minimum) {
+            throw new IllegalArgumentException("Invalid Pareto parameters");
+        }
+        double exponent = -1 / alpha;
+        return random -> Math.min(cap, toBurst(minimum * Math.pow(1 - random.nextDouble(), exponent)));
+    }
+
+    /**
+     * Mostly short jobs with a fraction of long ones; both exponential around their means.
+     */
+    static BurstDistribution bimodal(double shortMean, double longMean, double longFraction) {
+        if (!(shortMean > 0) || !(longMean > 0) || longFraction < 0 || longFraction > 1) {
+            throw new IllegalArgumentException("Invalid bimodal parameters");
+        }
+        return random -> {
+            double mean = random.nextDouble() < longFraction ? longMean : shortMean;
+            return toBurst(-Math.log(1 - random.nextDouble()) * mean);
+        };
+    }
+
+    private static int toBurst(double length) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.ceil(length)));
+    }
+}
@@ -0,0 +1,213 @@
+package org.app.roundrobin.generator;
+
+import org.app.roundrobin.model.Process;
+import org.app.roundrobin.model.WorkloadRegistry;
+import org.app.roundrobin.utils.WorkloadCsv;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Synthetic workloads from an {@link ArrivalProcess} and a {@link BurstDistribution}.
+ * <p>
+ * The stream is cut into fixed {@link #CHUNK_SIZE} chunks, and each chunk draws from its own
+ * {@link SplittableRandom}s seeded from (seed, chunk index). Chunks are therefore independent and can be
+ * generated on any thread in any order, and a seed always yields the same workload no matter how many
+ * threads produced it. Arrival times are a prefix sum of gaps: a parallel pass totals each chunk's gaps,
+ * a short sequential scan turns the totals into chunk start times, and a second parallel pass writes
+ * the arrivals and bursts.
+ * <p>
+ * Process IDs are {@code P1, P2, ...} in generation order.
+ */
+public final class WorkloadGenerator {
+
+    public static final int CHUNK_SIZE = 1 << 16;
+
+    private static final long GAP_STREAM = 0;
+    private static final long BURST_STREAM = 1;
+
+    private final long seed;
+    private final ArrivalProcess arrivals;
+    private final BurstDistribution bursts;
+
+    public WorkloadGenerator(long seed, ArrivalProcess arrivals, BurstDistribution bursts) {
+        this.seed = seed;
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+    }
+
+    /**
+     * One chunk of generated processes; {@code first} is the stream index of its first process.
+     */
+    public record Chunk(long first, int[] arrivals, int[] bursts) {
+
+        public int size() { return arrivals.length; }
+
+        public String processId(int i) { return "P" + (first + i + 1); }
+
+        public Process toProcess(int i) { return new Process(processId(i), arrivals[i], bursts[i]); }
+    }
+
+    /**
+     * Fill parallel columns with the first {@code arrivals.length} processes, using all cores.
+     * This is the path for very large stress workloads: no IDs, no objects.
+     */
+    public void fill(int[] arrivals, int[] bursts) {
+        if (bursts.length != arrivals.length) {
+            throw new IllegalArgumentException("Column lengths differ");
+        }
+        long count = arrivals.length;
+        double[] starts = chunkStarts(count);
+        IntStream.range(0, starts.length).parallel().forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = (int) Math.min(count, (long) from + CHUNK_SIZE);
+            generate(chunk, starts[chunk], arrivals, bursts, from, to);
+        });
+    }
+
+    /**
+     * The first {@code count} processes as a registry, ready for the scheduler or the UI.
+     */
+    public WorkloadRegistry toRegistry(int count) {
+        WorkloadRegistry workload = new WorkloadRegistry();
+        replace(workload, count);
+        return workload;
+    }
+
+    /**
+     * Replace the contents of {@code workload} with the first {@code count} processes (one change notification).
+     */
+    public void replace(WorkloadRegistry workload, int count) {
+        int[] arrivalColumn = new int[count];
+        int[] burstColumn = new int[count];
+        fill(arrivalColumn, burstColumn);
+        String[] ids = new String[count];
+        Arrays.parallelSetAll(ids, i -> "P" + (i + 1));
+        workload.replaceAll(ids, arrivalColumn, burstColumn);
+    }
+
+    /**
+     * Chunks of the first {@code count} processes, each generated only when the stream reaches it.
+     * The stream may be made parallel; chunk contents do not depend on it.
+     */
+    public Stream<Chunk> chunks(long count) {
+        double[] starts = chunkStarts(count);
+        return IntStream.range(0, starts.length).mapToObj(chunk -> chunk(count, starts, chunk));
+    }
+
+    /**
+     * The first {@code count} processes as a lazy stream of {@link Process} objects, in generation order.
+     */
+    public Stream<Process> processes(long count) {
+        return chunks(count).flatMap(chunk -> IntStream.range(0, chunk.size()).mapToObj(chunk::toProcess));
+    }
+
+    /**
+     * Write the first {@code count} processes in {@link WorkloadCsv} format. Chunks are generated in parallel
+     * a batch at a time and written in order, so memory stays bounded whatever the count.
+     */
+    public void writeCsv(long count, Path file) throws IOException {
+        int batch = Math.max(1, Runtime.getRuntime().availableProcessors());
+        double[] starts = chunkStarts(count);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(WorkloadCsv.HEADER);
+            writer.newLine();
+            StringBuilder line = new StringBuilder(32);
+            for (int firstChunk = 0; firstChunk < starts.length; firstChunk += batch) {
+                Chunk[] chunks = chunkBatch(count, starts, firstChunk, Math.min(starts.length, firstChunk + batch));
+                for (Chunk chunk : chunks) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        line.setLength(0);
+                        line.append('P').append(chunk.first() + i + 1).append(',')
+                                .append(chunk.arrivals()[i]).append(',').append(chunk.bursts()[i]);
+                        writer.append(line);
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+    }
+
+    private Chunk[] chunkBatch(long count, double[] starts, int from, int to) {
+        Chunk[] batch = new Chunk[to - from];
+        IntStream.range(from, to).parallel().forEach(chunk -> batch[chunk - from] = chunk(count, starts, chunk));
+        return batch;
+    }
+
+    private Chunk chunk(long count, double[] starts, int chunk) {
+        long first = (long) chunk * CHUNK_SIZE;
+        int size = (int) Math.min(CHUNK_SIZE, count - first);
+        int[] chunkArrivals = new int[size];
+        int[] chunkBursts = new int[size];
+        generate(chunk, starts[chunk], chunkArrivals, chunkBursts, 0, size);
+        return new Chunk(first, chunkArrivals, chunkBursts);
+    }
+
+    /**
+     * Start time of every chunk: each chunk's gap total (in parallel), then an exclusive prefix sum.
+     */
+    private double[] chunkStarts(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        long chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunkCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many processes: " + count);
+        }
+        double[] spans = new double[(int) chunkCount];
+        IntStream.range(0, spans.length).parallel().forEach(chunk -> {
+            SplittableRandom gaps = random(chunk, GAP_STREAM);
+            long first = (long) chunk * CHUNK_SIZE;
+            long end = Math.min(count, first + CHUNK_SIZE);
+            double span = 0;
+            for (long index = first; index < end; index++) {
+                span += arrivals.gap(gaps, index);
+            }
+            spans[chunk] = span;
+        });
+
+        double time = 0;
+        for (int chunk = 0; chunk < spans.length; chunk++) {
+            double span = spans[chunk];
+            spans[chunk] = time;
+            time += span;
+        }
+        if (time > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Arrival times exceed the int range; raise the arrival rate or lower the count");
+        }
+        return spans;
+    }
+
+    /**
+     * Write one chunk into {@code [from, to)} of the given columns, arrivals continuing from {@code start}.
+     */
+    private void generate(int chunk, double start, int[] arrivalColumn, int[] burstColumn, int from, int to) {
+        SplittableRandom gaps = random(chunk, GAP_STREAM);
+        SplittableRandom lengths = random(chunk, BURST_STREAM);
+        long index = (long) chunk * CHUNK_SIZE;
+        double time = start;
+        for (int i = from; i < to; i++, index++) {
+            time += arrivals.gap(gaps, index);
+            arrivalColumn[i] = (int) time;
+            burstColumn[i] = bursts.sample(lengths);
+        }
+    }
+
+    private SplittableRandom random(int chunk, long stream) {
+        return new SplittableRandom(mix(mix(seed + chunk) + stream));
+    }
+
+    // SplitMix64 finalizer: neighbouring (seed, chunk) pairs get unrelated streams
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,274 @@
+package org.app.roundrobin.journal;
+
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.ScheduleEventSink;
+import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.Process;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Read access to a {@link ScheduleJournal}: random access by record index, iteration, replay into a
+ * {@link RoundRobinScheduler.SimulationResult}, and event-by-event comparison of two runs.
+ * Records are read straight from the mapped file.
+ */
+public final class JournalReader implements AutoCloseable, Iterable<JournalReader.Event> {
+
+    private static final int CHUNK_RECORDS = (int) (ScheduleJournal.CHUNK_BYTES / ScheduleJournal.RECORD_BYTES);
+
+    private final FileChannel channel;
+    private final int quantum;
+    private final String[] processIds;
+    private final MappedByteBuffer[] chunks;
+    private final long size;
+
+    /**
+     * One journal record; {@code handle} is -1 for IDLE.
+     */
+    public record Event(int type, int time, int handle, int aux) {
+
+        public String typeName() {
+            return switch (type) {
+                case ScheduleEventSink.ARRIVAL -> "ARRIVAL";
+                case ScheduleEventSink.DISPATCH -> "DISPATCH";
+                case ScheduleEventSink.PREEMPT -> "PREEMPT";
+                case ScheduleEventSink.COMPLETE -> "COMPLETE";
+                case ScheduleEventSink.IDLE -> "IDLE";
+                default -> "UNKNOWN(" + type + ")";
+            };
+        }
+    }
+
+    private JournalReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(fileSize, 32));
+        if (fileSize < 32 || header.getInt(0) != ScheduleJournal.MAGIC) {
+            throw new IOException("Not a schedule journal");
+        }
+        if (header.getInt(4) != ScheduleJournal.VERSION) {
+            throw new IOException("Unsupported journal version " + header.getInt(4));
+        }
+        this.quantum = header.getInt(8);
+        int processCount = header.getInt(12);
+        long recordedCount = header.getLong(ScheduleJournal.COUNT_OFFSET);
+        long recordsOffset = header.getLong(ScheduleJournal.COUNT_OFFSET + 8);
+        if (processCount < 0 || recordsOffset < 32 || recordsOffset > fileSize) {
+            throw new IOException("Corrupt journal header");
+        }
+
+        // Process IDs by handle
+        this.processIds = new String[processCount];
+        ByteBuffer ids = channel.map(FileChannel.MapMode.READ_ONLY, 32, recordsOffset - 32);
+        for (int handle = 0; handle < processCount; handle++) {
+            byte[] id = new byte[ids.getInt()];
+            ids.get(id);
+            processIds[handle] = new String(id, StandardCharsets.UTF_8);
+        }
+
+        long available = (fileSize - recordsOffset) / ScheduleJournal.RECORD_BYTES;
+        int chunkCount = (int) ((available + CHUNK_RECORDS - 1) / CHUNK_RECORDS);
+        this.chunks = new MappedByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            long first = (long) i * CHUNK_RECORDS;
+            long records = Math.min(CHUNK_RECORDS, available - first);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    recordsOffset + first * ScheduleJournal.RECORD_BYTES, records * ScheduleJournal.RECORD_BYTES);
+        }
+        this.size = recordedCount == ScheduleJournal.UNKNOWN_COUNT ? writtenCount(available) : Math.min(recordedCount, available);
+    }
+
+    public static JournalReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new JournalReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() { return size; }
+    public int getQuantum() { return quantum; }
+    public int getProcessCount() { return processIds.length; }
+
+    public String processId(int handle) {
+        return handle < 0 ? "IDLE" : processIds[handle];
+    }
+
+    public int type(long index) { return field(index, 0); }
+    public int time(long index) { return field(index, 4); }
+    public int handle(long index) { return field(index, 8); }
+    public int aux(long index) { return field(index, 12); }
+
+    public Event get(long index) {
+        return new Event(type(index), time(index), handle(index), aux(index));
+    }
+
+    @Override
+    public Iterator<Event> iterator() {
+        return new Iterator<>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() { return next < size; }
+
+            @Override
+            public Event next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    /**
+     * Rebuild the run's result (processes in arrival order, Gantt chart and metrics) from the journal alone.
+     */
+    public RoundRobinScheduler.SimulationResult replay() {
+        int processCount = processIds.length;
+        int[] arrival = new int[processCount];
+        int[] burst = new int[processCount];
+        int[] completion = new int[processCount];
+        int[] turnaround = new int[processCount];
+        boolean[] completed = new boolean[processCount];
+        int[] arrivalOrder = new int[processCount];
+        int arrived = 0;
+        long busyTime = 0;
+        List<GanttEntry> ganttChart = new ArrayList<>();
+
+        for (long i = 0; i < size; i++) {
+            int handle = handle(i);
+            switch (type(i)) {
+                case ScheduleEventSink.ARRIVAL -> {
+                    arrival[handle] = time(i);
+                    burst[handle] = aux(i);
+                    arrivalOrder[arrived++] = handle;
+                }
+                case ScheduleEventSink.DISPATCH -> {
+                    ganttChart.add(new GanttEntry(processIds[handle], time(i), aux(i)));
+                    busyTime += aux(i) - time(i);
+                }
+                case ScheduleEventSink.IDLE -> ganttChart.add(new GanttEntry("IDLE", time(i), aux(i)));
+                case ScheduleEventSink.COMPLETE -> {
+                    completion[handle] = time(i);
+                    turnaround[handle] = aux(i);
+                    completed[handle] = true;
+                }
+                default -> {
+                    // PREEMPT carries nothing the result needs
+                }
+            }
+        }
+
+        List<Process> processes = new ArrayList<>(arrived);
+        long totalWaitingTime = 0;
+        long totalTurnaroundTime = 0;
+        for (int k = 0; k < arrived; k++) {
+            int handle = arrivalOrder[k];
+            Process p = new Process(processIds[handle], arrival[handle], burst[handle]);
+            if (completed[handle]) {
+                p.setRemainingTime(0);
+                p.setCompletionTime(completion[handle]);
+                p.setTurnaroundTime(turnaround[handle]);
+                p.setWaitingTime(turnaround[handle] - burst[handle]);
+                totalTurnaroundTime += turnaround[handle];
+                totalWaitingTime += turnaround[handle] - burst[handle];
+            }
+            processes.add(p);
+        }
+
+        int totalTime = ganttChart.isEmpty() ? 0 : ganttChart.get(ganttChart.size() - 1).getEndTime();
+        Metrics metrics = new Metrics(
+                processCount == 0 ? 0 : (double) totalWaitingTime / processCount,
+                processCount == 0 ? 0 : (double) totalTurnaroundTime / processCount,
+                totalTime > 0 ? (double) busyTime / totalTime * 100 : 0.0,
+                totalTime > 0 ? (double) processCount / totalTime : 0.0,
+                processCount, totalTime);
+        return new RoundRobinScheduler.SimulationResult(processes, ganttChart, metrics);
+    }
+
+    /**
+     * Index of the first event that differs between two journals (comparing process IDs, not handles),
+     * or -1 if they are identical. A journal that is a prefix of the other differs at its end.
+     */
+    public static long firstDifference(JournalReader a, JournalReader b) {
+        long common = Math.min(a.size, b.size);
+        for (long i = 0; i < common; i++) {
+            if (a.type(i) != b.type(i) || a.time(i) != b.time(i) || a.aux(i) != b.aux(i)
+                    || !a.processId(a.handle(i)).equals(b.processId(b.handle(i)))) {
+                return i;
+            }
+        }
+        return a.size == b.size ? -1 : common;
+    }
+
+    /**
+     * Human-readable description of up to {@code limit} differing events, starting at the first difference.
+     */
+    public static List<String> diff(JournalReader a, JournalReader b, int limit) {
+        List<String> lines = new ArrayList<>();
+        long first = firstDifference(a, b);
+        if (first < 0) {
+            return lines;
+        }
+        long end = Math.max(a.size, b.size);
+        for (long i = first; i < end && lines.size() < limit; i++) {
+            String left = i < a.size ? a.describe(i) : "<end>";
+            String right = i < b.size ? b.describe(i) : "<end>";
+            if (!left.equals(right)) {
+                lines.add("#" + i + ": " + left + " | " + right);
+            }
+        }
+        return lines;
+    }
+
+    public String describe(long index) {
+        Event event = get(index);
+        return event.typeName() + " t=" + event.time() + " " + processId(event.handle()) + " aux=" + event.aux();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int field(long index, int offset) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Journal record " + index);
+        }
+        return chunks[(int) (index / CHUNK_RECORDS)]
+                .getInt((int) (index % CHUNK_RECORDS) * ScheduleJournal.RECORD_BYTES + offset);
+    }
+
+    /**
+     * Records written by a journal that was not closed: up to the first empty (type 0) record.
+     */
+    private long writtenCount(long available) {
+        long low = 0;
+        long high = available;
+        // Records are written in order, so the written ones form a prefix: binary search its end
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            int chunk = (int) (mid / CHUNK_RECORDS);
+            if (chunks[chunk].getInt((int) (mid % CHUNK_RECORDS) * ScheduleJournal.RECORD_BYTES) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,136 @@
+package org.app.roundrobin.journal;
+
+import org.app.roundrobin.algorithm.ScheduleEventSink;
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only journal of scheduling events, written through a memory-mapped file.
+ * <p>
+ * Layout: a header (magic, version, quantum, process count, record count, records offset, then the
+ * process IDs by handle), followed by fixed 16-byte records {@code type, time, handle, aux}
+ * (see {@link ScheduleEventSink}). The file is mapped in {@link #CHUNK_BYTES} windows, so appending
+ * is four int stores. The record count is written on {@link #close()}; a journal that was never
+ * closed reads up to its first empty record.
+ * <pre>
+ * try (ScheduleJournal journal = ScheduleJournal.create(path, workload, quantum)) {
+ *     RoundRobinScheduler.schedule(workload, quantum, journal);
+ * }
+ * </pre>
+ */
+public final class ScheduleJournal implements ScheduleEventSink, AutoCloseable {
+
+    static final int MAGIC = 0x52524a31; // "RRJ1"
+    static final int VERSION = 1;
+    static final int RECORD_BYTES = 16;
+    static final int COUNT_OFFSET = 16; // header position of the record count
+    static final long UNKNOWN_COUNT = -1;
+    static final long CHUNK_BYTES = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long recordsOffset;
+    private MappedByteBuffer chunk;
+    private long chunkIndex = -1;
+    private long count;
+    private boolean closed;
+
+    private ScheduleJournal(FileChannel channel, long recordsOffset) {
+        this.channel = channel;
+        this.recordsOffset = recordsOffset;
+    }
+
+    /**
+     * Create (or overwrite) a journal for one run of {@code workload}; handles in events are registry handles.
+     */
+    public static ScheduleJournal create(Path file, WorkloadRegistry workload, int quantum) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(64 * 1024);
+            header.putInt(MAGIC).putInt(VERSION).putInt(quantum).putInt(workload.size())
+                    .putLong(UNKNOWN_COUNT).putLong(0); // records offset, patched below
+            for (int handle = 0; handle < workload.size(); handle++) {
+                byte[] id = workload.getProcessId(handle).getBytes(StandardCharsets.UTF_8);
+                if (header.remaining() < id.length + 4) {
+                    flush(channel, header);
+                }
+                header.putInt(id.length);
+                if (header.remaining() < id.length) {
+                    flush(channel, header);
+                    channel.write(ByteBuffer.wrap(id));
+                } else {
+                    header.put(id);
+                }
+            }
+            flush(channel, header);
+
+            // Records start on a record boundary
+            long recordsOffset = (channel.position() + RECORD_BYTES - 1) / RECORD_BYTES * RECORD_BYTES;
+            channel.write(ByteBuffer.allocate(8).putLong(0, recordsOffset), COUNT_OFFSET + 8);
+            return new ScheduleJournal(channel, recordsOffset);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void event(int type, int time, int handle, int aux) {
+        if (chunk == null || !chunk.hasRemaining()) {
+            mapNextChunk();
+        }
+        chunk.putInt(type).putInt(time).putInt(handle).putInt(aux);
+        count++;
+    }
+
+    public long size() { return count; }
+
+    /**
+     * Record the final count and trim the file to the records written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (chunk != null) {
+                chunk.force();
+            }
+            chunk = null;
+            channel.write(ByteBuffer.allocate(8).putLong(0, count), COUNT_OFFSET);
+            channel.truncate(recordsOffset + count * RECORD_BYTES);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void mapNextChunk() {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        try {
+            chunkIndex++;
+            chunk = channel.map(FileChannel.MapMode.READ_WRITE, recordsOffset + chunkIndex * CHUNK_BYTES, CHUNK_BYTES);
+        } catch (IOException e) {
+            // Sinks cannot throw checked exceptions from inside the scheduling loop
+            throw new IllegalStateException("Cannot extend journal: " + e.getMessage(), e);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,99 @@
+package org.app.roundrobin.model;
+
+import java.util.List;
+
+/**
+ * Per-process scheduling results stored as primitive columns, one row per process.
+ * Holds large result sets without a property-laden {@link Process} per row.
+ */
+public class ProcessColumns {
+
+    /**
+     * Sortable columns; every column but {@link #PROCESS_ID} is a primitive int.
+     */
+    public enum Column { PROCESS_ID, ARRIVAL_TIME, BURST_TIME, COMPLETION_TIME, TURNAROUND_TIME, WAITING_TIME }
+
+    private final String[] processIds;
+    private final int[] arrivalTimes;
+    private final int[] burstTimes;
+    private final int[] completionTimes;
+
+    public ProcessColumns(String[] processIds, int[] arrivalTimes, int[] burstTimes, int[] completionTimes) {
+        if (arrivalTimes.length != processIds.length || burstTimes.length != processIds.length
+                || completionTimes.length != processIds.length) {
+            throw new IllegalArgumentException("Column lengths differ");
+        }
+        this.processIds = processIds;
+        this.arrivalTimes = arrivalTimes;
+        this.burstTimes = burstTimes;
+        this.completionTimes = completionTimes;
+    }
+
+    public static ProcessColumns fromProcesses(List<Process> processes) {
+        int n = processes.size();
+        String[] ids = new String[n];
+        int[] arrival = new int[n];
+        int[] burst = new int[n];
+        int[] completion = new int[n];
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            ids[i] = p.getProcessId();
+            arrival[i] = p.getArrivalTime();
+            burst[i] = p.getBurstTime();
+            completion[i] = p.getCompletionTime();
+        }
+        return new ProcessColumns(ids, arrival, burst, completion);
+    }
+
+    public int size() { return processIds.length; }
+
+    public String getProcessId(int row) { return processIds[row]; }
+    public int getArrivalTime(int row) { return arrivalTimes[row]; }
+    public int getBurstTime(int row) { return burstTimes[row]; }
+    public int getCompletionTime(int row) { return completionTimes[row]; }
+    public int getTurnaroundTime(int row) { return completionTimes[row] - arrivalTimes[row]; }
+    public int getWaitingTime(int row) { return getTurnaroundTime(row) - burstTimes[row]; }
+
+    /**
+     * Value of an int column; {@link Column#PROCESS_ID} is not an int column.
+     */
+    public int getInt(Column column, int row) {
+        return switch (column) {
+            case ARRIVAL_TIME -> getArrivalTime(row);
+            case BURST_TIME -> getBurstTime(row);
+            case COMPLETION_TIME -> getCompletionTime(row);
+            case TURNAROUND_TIME -> getTurnaroundTime(row);
+            case WAITING_TIME -> getWaitingTime(row);
+            case PROCESS_ID -> throw new IllegalArgumentException("Process ID is not an int column");
+        };
+    }
+
+    /**
+     * Copy rows {@code [from, from + length)} of an int column into {@code target} at {@code offset}, for bulk
+     * readers that work on plain arrays a block at a time.
+     */
+    public void copyInts(Column column, int from, int[] target, int offset, int length) {
+        switch (column) {
+            case ARRIVAL_TIME -> System.arraycopy(arrivalTimes, from, target, offset, length);
+            case BURST_TIME -> System.arraycopy(burstTimes, from, target, offset, length);
+            case COMPLETION_TIME -> System.arraycopy(completionTimes, from, target, offset, length);
+            default -> {
+                for (int i = 0; i < length; i++) {
+                    target[offset + i] = getInt(column, from + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Materialize one row as a {@link Process} (for display or export).
+     */
+    public Process toProcess(int row) {
+        Process p = new Process(processIds[row], arrivalTimes[row], burstTimes[row]);
+        p.setRemainingTime(0);
+        p.setCompletionTime(getCompletionTime(row));
+        p.setTurnaroundTime(getTurnaroundTime(row));
+        p.setWaitingTime(getWaitingTime(row));
+        return p;
+    }
+}
@@ -0,0 +1,236 @@
+package org.app.roundrobin.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The workload (processes to schedule) stored as primitive columns with a hash index on process ID.
+ * Each process is addressed by a dense int handle: its position in insertion order, 0..size()-1.
+ * Handles are stable while processes are only added; a removal compacts the handles after it.
+ * Bulk operations validate the whole batch first and notify listeners once.
+ */
+public class WorkloadRegistry {
+
+    /**
+     * Notified after every mutation.
+     */
+    public interface Listener {
+        /**
+         * @param firstAppended first new handle when the change only appended processes, otherwise -1
+         */
+        void workloadChanged(WorkloadRegistry registry, int firstAppended);
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> handles = new HashMap<>();
+    private final List<Listener> listeners = new ArrayList<>();
+
+    private String[] processIds = new String[INITIAL_CAPACITY];
+    private int[] arrivalTimes = new int[INITIAL_CAPACITY];
+    private int[] burstTimes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public void addListener(Listener listener) { listeners.add(listener); }
+    public void removeListener(Listener listener) { listeners.remove(listener); }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public boolean contains(String processId) { return handles.containsKey(processId); }
+
+    /**
+     * Handle of a process, or -1 if no process has that ID.
+     */
+    public int handleOf(String processId) {
+        Integer handle = handles.get(processId);
+        return handle == null ? -1 : handle;
+    }
+
+    public String getProcessId(int handle) { return processIds[checkHandle(handle)]; }
+    public int getArrivalTime(int handle) { return arrivalTimes[checkHandle(handle)]; }
+    public int getBurstTime(int handle) { return burstTimes[checkHandle(handle)]; }
+
+    /**
+     * Add one process and return its handle.
+     */
+    public int add(String processId, int arrivalTime, int burstTime) {
+        return addAll(new String[] {processId}, new int[] {arrivalTime}, new int[] {burstTime});
+    }
+
+    /**
+     * Add processes given as parallel arrays; nothing is added if any ID is a duplicate or any value invalid.
+     *
+     * @return handle of the first added process
+     */
+    public int addAll(String[] ids, int[] arrivals, int[] bursts) {
+        if (arrivals.length != ids.length || bursts.length != ids.length) {
+            throw new IllegalArgumentException("Column lengths differ");
+        }
+        int first = size;
+        ensureCapacity(size + ids.length);
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                validate(ids[i], arrivals[i], bursts[i]);
+                if (handles.putIfAbsent(ids[i], size) != null) {
+                    throw new IllegalArgumentException("Duplicate process ID: " + ids[i]);
+                }
+                processIds[size] = ids[i];
+                arrivalTimes[size] = arrivals[i];
+                burstTimes[size] = bursts[i];
+                size++;
+            }
+        } catch (IllegalArgumentException e) {
+            // Roll the partial batch back so the registry is unchanged
+            for (int handle = first; handle < size; handle++) {
+                handles.remove(processIds[handle]);
+                processIds[handle] = null;
+            }
+            size = first;
+            throw e;
+        }
+        fireChanged(first);
+        return first;
+    }
+
+    /**
+     * Add the ID, arrival and burst of each process; see {@link #addAll(String[], int[], int[])}.
+     */
+    public int addAll(List<Process> processes) {
+        int n = processes.size();
+        String[] ids = new String[n];
+        int[] arrivals = new int[n];
+        int[] bursts = new int[n];
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            ids[i] = p.getProcessId();
+            arrivals[i] = p.getArrivalTime();
+            bursts[i] = p.getBurstTime();
+        }
+        return addAll(ids, arrivals, bursts);
+    }
+
+    /**
+     * Replace the whole workload; on invalid input the current workload is kept.
+     */
+    public void replaceAll(String[] ids, int[] arrivals, int[] bursts) {
+        WorkloadRegistry staged = new WorkloadRegistry();
+        staged.addAll(ids, arrivals, bursts);
+        adopt(staged);
+    }
+
+    public void replaceAll(List<Process> processes) {
+        WorkloadRegistry staged = new WorkloadRegistry();
+        staged.addAll(processes);
+        adopt(staged);
+    }
+
+    /**
+     * Remove the processes with the given IDs (unknown IDs are ignored), keeping the order of the rest.
+     *
+     * @return number of processes removed
+     */
+    public int removeAll(Collection<String> ids) {
+        boolean[] removed = new boolean[size];
+        int count = 0;
+        for (String id : ids) {
+            Integer handle = handles.remove(id);
+            if (handle != null && !removed[handle]) {
+                removed[handle] = true;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        // Compact in one pass and re-index the processes that moved
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (removed[read]) {
+                continue;
+            }
+            if (write != read) {
+                processIds[write] = processIds[read];
+                arrivalTimes[write] = arrivalTimes[read];
+                burstTimes[write] = burstTimes[read];
+                handles.put(processIds[write], write);
+            }
+            write++;
+        }
+        Arrays.fill(processIds, write, size, null);
+        size = write;
+        fireChanged(-1);
+        return count;
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        handles.clear();
+        Arrays.fill(processIds, 0, size, null);
+        size = 0;
+        fireChanged(-1);
+    }
+
+    /**
+     * Fresh {@link Process} objects for handles {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public List<Process> toProcesses(int from, int to) {
+        List<Process> result = new ArrayList<>(Math.max(0, to - from));
+        for (int handle = from; handle < to; handle++) {
+            result.add(new Process(processIds[handle], arrivalTimes[handle], burstTimes[handle]));
+        }
+        return result;
+    }
+
+    public List<Process> toProcesses() {
+        return toProcesses(0, size);
+    }
+
+    private void adopt(WorkloadRegistry staged) {
+        handles.clear();
+        handles.putAll(staged.handles);
+        processIds = staged.processIds;
+        arrivalTimes = staged.arrivalTimes;
+        burstTimes = staged.burstTimes;
+        size = staged.size;
+        fireChanged(-1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > processIds.length) {
+            int grown = Math.max(capacity, processIds.length + (processIds.length >> 1));
+            processIds = Arrays.copyOf(processIds, grown);
+            arrivalTimes = Arrays.copyOf(arrivalTimes, grown);
+            burstTimes = Arrays.copyOf(burstTimes, grown);
+        }
+    }
+
+    private int checkHandle(int handle) {
+        if (handle < 0 || handle >= size) {
+            throw new IndexOutOfBoundsException("Invalid process handle: " + handle);
+        }
+        return handle;
+    }
+
+    private static void validate(String id, int arrival, int burst) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Process ID must not be empty");
+        }
+        if (arrival < 0 || burst <= 0) {
+            throw new IllegalArgumentException("Invalid times for process " + id);
+        }
+    }
+
+    private void fireChanged(int firstAppended) {
+        for (Listener listener : List.copyOf(listeners)) {
+            listener.workloadChanged(this, firstAppended);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.app.roundrobin.perf;
+
+import org.app.roundrobin.algorithm.ResultStatistics;
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.Process;
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Metric reduction over a sweep's worth of results: the stream-based {@code calculateMetrics} the scheduler
+ * used to run, the same statistics as {@link ResultStatistics} computed with streams over the columns, and
+ * {@link ResultStatistics} itself, one result at a time and as a batch. Every pass is checked against the
+ * results' own {@link Metrics}.
+ * <pre>
+ * MetricsBenchmark [--results 1000] [--processes 2000] [--rounds 5]
+ * </pre>
+ * Build with {@code -Pvector}, then run it once as is and once with {@code --add-modules jdk.incubator.vector}
+ * to compare the scalar and vector kernels ({@code -Droundrobin.metrics.scalar=true} forces scalar even with
+ * the module).
+ */
+public final class MetricsBenchmark {
+
+    private static volatile double blackhole; // keeps the statistics pass from being optimized away
+
+    private MetricsBenchmark() {
+    }
+
+    /**
+     * The scheduler's former metric pass, over the result's object views.
+     */
+    static Metrics streamMetrics(RoundRobinScheduler.SimulationResult result) {
+        List<Process> processes = result.getProcesses();
+        List<GanttEntry> ganttChart = result.getGanttChart();
+        double totalWaitingTime = processes.stream().mapToInt(Process::getWaitingTime).sum();
+        double totalTurnaroundTime = processes.stream().mapToInt(Process::getTurnaroundTime).sum();
+        int totalBusyTime = ganttChart.stream()
+                .filter(entry -> !entry.getProcessId().equals("IDLE"))
+                .mapToInt(GanttEntry::getDuration)
+                .sum();
+        int totalTime = ganttChart.isEmpty() ? 0 : ganttChart.get(ganttChart.size() - 1).getEndTime();
+        double cpuUtilization = totalTime > 0 ? (double) totalBusyTime / totalTime * 100 : 0.0;
+        double throughput = totalTime > 0 ? (double) processes.size() / totalTime : 0.0;
+        return new Metrics(totalWaitingTime / processes.size(), totalTurnaroundTime / processes.size(),
+                cpuUtilization, throughput, processes.size(), totalTime);
+    }
+
+    /**
+     * Sums, extremes and variances with streams over the columns: what {@link ResultStatistics} replaces.
+     */
+    static double streamStatistics(RoundRobinScheduler.SimulationResult result) {
+        ProcessColumns columns = result.getProcessColumns();
+        IntSummaryStatistics waiting = IntStream.range(0, columns.size())
+                .map(columns::getWaitingTime).summaryStatistics();
+        IntSummaryStatistics turnaround = IntStream.range(0, columns.size())
+                .map(columns::getTurnaroundTime).summaryStatistics();
+        double waitingVariance = IntStream.range(0, columns.size())
+                .mapToDouble(row -> columns.getWaitingTime(row) - waiting.getAverage())
+                .map(d -> d * d).average().orElse(0);
+        double turnaroundVariance = IntStream.range(0, columns.size())
+                .mapToDouble(row -> columns.getTurnaroundTime(row) - turnaround.getAverage())
+                .map(d -> d * d).average().orElse(0);
+        long busy = IntStream.range(0, result.getGanttEntryCount())
+                .filter(i -> result.getEntryRow(i) >= 0)
+                .mapToLong(i -> result.getEntryEnd(i) - result.getEntryStart(i)).sum();
+        return waiting.getSum() + turnaround.getMax() + waiting.getMin() + waitingVariance + turnaroundVariance + busy;
+    }
+
+    private static void check(boolean same, String pass) {
+        if (!same) {
+            throw new IllegalStateException(pass + ": metrics differ from the scheduler's");
+        }
+    }
+
+    private static boolean sameMetrics(Metrics a, Metrics b) {
+        return a.getTotalTime() == b.getTotalTime() && a.getTotalProcesses() == b.getTotalProcesses()
+                && Math.abs(a.getAvgWaitingTime() - b.getAvgWaitingTime()) < 1e-9
+                && Math.abs(a.getAvgTurnaroundTime() - b.getAvgTurnaroundTime()) < 1e-9
+                && Math.abs(a.getCpuUtilization() - b.getCpuUtilization()) < 1e-9;
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        int resultCount = Integer.parseInt(options.getOrDefault("results", "1000"));
+        int processes = Integer.parseInt(options.getOrDefault("processes", "2000"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "5"));
+
+        WorkloadCorpus[] shapes = WorkloadCorpus.values();
+        List<RoundRobinScheduler.SimulationResult> results = new ArrayList<>(resultCount);
+        for (int i = 0; i < resultCount; i++) {
+            WorkloadCorpus shape = shapes[i % shapes.length];
+            results.add(RoundRobinScheduler.schedule(shape.generate(processes, i), 1 + i % 8));
+        }
+        System.out.printf("%d results of %d processes, %s kernels%n", resultCount, processes,
+                ResultStatistics.isVectorized() ? "vector" : "scalar");
+
+        for (int round = 1; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (RoundRobinScheduler.SimulationResult result : results) {
+                check(sameMetrics(streamMetrics(result), result.getMetrics()), "stream");
+            }
+            long streamSums = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            double sink = 0;
+            for (RoundRobinScheduler.SimulationResult result : results) {
+                sink += streamStatistics(result);
+            }
+            long streamStats = System.nanoTime() - start;
+            blackhole = sink;
+
+            start = System.nanoTime();
+            for (RoundRobinScheduler.SimulationResult result : results) {
+                check(sameMetrics(ResultStatistics.of(result).toMetrics(), result.getMetrics()), "kernels");
+            }
+            long kernels = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ResultStatistics[] batch = ResultStatistics.of(results);
+            long batched = System.nanoTime() - start;
+            check(sameMetrics(batch[resultCount - 1].toMetrics(), results.get(resultCount - 1).getMetrics()), "batch");
+
+            System.out.printf("round %d: stream calculateMetrics %.1f ms, stream statistics %.1f ms, "
+                            + "kernels %.1f ms, batch %.1f ms%n", round, streamSums / 1e6, streamStats / 1e6,
+                    kernels / 1e6, batched / 1e6);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package org.app.roundrobin.perf;
+
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.WorkloadRegistry;
+import org.app.roundrobin.render.GanttLanes;
+import org.app.roundrobin.utils.ResultCsv;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * End-to-end regression suite over the {@link WorkloadCorpus}: each shape at 10^3 up to a maximum size,
+ * run through scheduling, metrics, CSV export and Gantt lane layout exactly as the application does.
+ * <p>
+ * For every case it records wall time (best of several runs for small sizes), bytes allocated and peak
+ * heap to a CSV report, and fingerprints the schedule. The fingerprint must equal the
+ * {@link ReferenceScheduler}'s (up to {@code --reference-limit} processes) and the baseline's, so an
+ * optimization cannot change results unnoticed; wall time beyond the baseline's tolerance is a regression.
+ * <pre>
+ * PerformanceSuite [--max-size 10000000] [--quantum 4] [--seed 42] [--report perf-report.csv]
+ *                  [--baseline previous.csv] [--tolerance 0.25] [--reference-limit 1000000]
+ * </pre>
+ * Exits with status 1 on any mismatch or regression.
+ */
+public final class PerformanceSuite {
+
+    static final String REPORT_HEADER =
+            "case,processes,gantt_entries,wall_ms,allocated_bytes,peak_heap_bytes,checksum,verified";
+
+    private static final int MIN_SIZE = 1_000;
+    private static final long WORK_PER_CASE = 2_000_000; // processes run per case, split into repetitions
+    private static final int MAX_REPETITIONS = 20;
+
+    private final int quantum;
+    private final long seed;
+    private final int referenceLimit;
+
+    record Measurement(String name, int processes, int ganttEntries, double wallMillis,
+                       long allocatedBytes, long peakHeapBytes, long checksum, String verified) {
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%s,%d,%d,%.3f,%d,%d,%016x,%s", name, processes, ganttEntries,
+                    wallMillis, allocatedBytes, peakHeapBytes, checksum, verified);
+        }
+
+        static Measurement fromCsv(String line) {
+            String[] f = line.split(",");
+            return new Measurement(f[0], Integer.parseInt(f[1]), Integer.parseInt(f[2]), Double.parseDouble(f[3]),
+                    Long.parseLong(f[4]), Long.parseLong(f[5]), Long.parseUnsignedLong(f[6], 16), f[7]);
+        }
+    }
+
+    PerformanceSuite(int quantum, long seed, int referenceLimit) {
+        this.quantum = quantum;
+        this.seed = seed;
+        this.referenceLimit = referenceLimit;
+    }
+
+    /**
+     * Run one corpus case end to end.
+     */
+    Measurement measure(WorkloadCorpus shape, int processes) throws IOException {
+        WorkloadRegistry workload = shape.generate(processes, seed);
+        String name = shape.name() + "_" + processes;
+        int repetitions = (int) Math.max(1, Math.min(MAX_REPETITIONS, WORK_PER_CASE / processes));
+
+        long bestNanos = Long.MAX_VALUE;
+        long allocated = 0;
+        long peakHeap = 0;
+        RoundRobinScheduler.SimulationResult result = null;
+        for (int i = 0; i < repetitions; i++) {
+            result = null;
+            System.gc();
+            resetPeakHeap();
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+
+            result = RoundRobinScheduler.schedule(workload, quantum);
+            Metrics metrics = result.getMetrics();
+            try (Writer csv = new BufferedWriter(Writer.nullWriter(), 64 * 1024)) {
+                ResultCsv.write(result.getProcessColumns(), csv);
+            }
+            GanttLanes.View layout = new GanttLanes(result).ungrouped();
+            if (layout.rowCount() == 0 || metrics.getTotalProcesses() != processes) {
+                throw new IllegalStateException(name + ": incomplete result");
+            }
+
+            long elapsed = System.nanoTime() - start;
+            if (elapsed < bestNanos) {
+                bestNanos = elapsed;
+                allocated = allocatedBytes() - allocatedBefore;
+                peakHeap = peakHeap();
+            }
+        }
+
+        long checksum = ScheduleChecksum.of(result);
+        String verified = "unchecked";
+        if (processes <= referenceLimit) {
+            if (ReferenceScheduler.checksum(workload, quantum) != checksum) {
+                throw new IllegalStateException(name + ": schedule differs from the reference scheduler");
+            }
+            verified = "reference";
+        }
+        return new Measurement(name, processes, result.getGanttEntryCount(), bestNanos / 1e6,
+                allocated, peakHeap, checksum, verified);
+    }
+
+    /**
+     * Problems found comparing a run with a baseline; empty if the run is acceptable.
+     */
+    static List<String> compare(List<Measurement> run, Map<String, Measurement> baseline, double tolerance) {
+        List<String> problems = new ArrayList<>();
+        for (Measurement m : run) {
+            Measurement base = baseline.get(m.name());
+            if (base == null) {
+                continue;
+            }
+            if (base.checksum() != m.checksum()) {
+                problems.add(m.name() + ": schedule checksum changed from baseline");
+            }
+            if (m.wallMillis() > base.wallMillis() * (1 + tolerance)) {
+                problems.add(String.format(Locale.ROOT, "%s: wall time %.3f ms vs baseline %.3f ms",
+                        m.name(), m.wallMillis(), base.wallMillis()));
+            }
+        }
+        return problems;
+    }
+
+    static Map<String, Measurement> readReport(Path file) throws IOException {
+        Map<String, Measurement> measurements = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("case,")) {
+                    Measurement m = Measurement.fromCsv(line);
+                    measurements.put(m.name(), m);
+                }
+            }
+        }
+        return measurements;
+    }
+
+    static void writeReport(List<Measurement> measurements, Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(REPORT_HEADER);
+            writer.newLine();
+            for (Measurement m : measurements) {
+                writer.write(m.toCsv());
+                writer.newLine();
+            }
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                System.err.println("Unexpected argument " + args[i]);
+                System.exit(2);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        int maxSize = Integer.parseInt(options.getOrDefault("max-size", "10000000"));
+        int quantum = Integer.parseInt(options.getOrDefault("quantum", "4"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int referenceLimit = Integer.parseInt(options.getOrDefault("reference-limit", "1000000"));
+        double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.25"));
+        Path report = Path.of(options.getOrDefault("report", "perf-report.csv"));
+
+        PerformanceSuite suite = new PerformanceSuite(quantum, seed, referenceLimit);
+        List<Measurement> measurements = new ArrayList<>();
+        System.out.println(REPORT_HEADER);
+        for (long size = MIN_SIZE; size <= maxSize; size *= 10) {
+            for (WorkloadCorpus shape : WorkloadCorpus.values()) {
+                Measurement m = suite.measure(shape, (int) size);
+                measurements.add(m);
+                System.out.println(m.toCsv());
+            }
+        }
+        writeReport(measurements, report);
+
+        if (options.containsKey("baseline")) {
+            List<String> problems = compare(measurements, readReport(Path.of(options.get("baseline"))), tolerance);
+            problems.forEach(System.err::println);
+            if (!problems.isEmpty()) {
+                System.exit(1);
+            }
+            System.out.println("Matches baseline");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.app.roundrobin.perf;
+
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Deliberately plain Round Robin written straight from the definition (boxed sort, {@link ArrayDeque}),
+ * sharing no code with the production scheduler. Its {@link ScheduleChecksum} is the golden answer
+ * the optimized path must reproduce.
+ */
+final class ReferenceScheduler {
+
+    private ReferenceScheduler() {
+    }
+
+    static long checksum(WorkloadRegistry workload, int quantum) {
+        int n = workload.size();
+        Integer[] byArrival = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byArrival[i] = i;
+        }
+        Arrays.sort(byArrival, Comparator.comparingInt(workload::getArrivalTime)); // stable
+
+        int[] rowOf = new int[n];
+        int[] remaining = new int[n];
+        for (int row = 0; row < n; row++) {
+            rowOf[byArrival[row]] = row;
+            remaining[byArrival[row]] = workload.getBurstTime(byArrival[row]);
+        }
+
+        ScheduleChecksum checksum = new ScheduleChecksum();
+        int[] completion = new int[n];
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        int time = 0;
+        int next = 0;
+        int done = 0;
+        long waiting = 0;
+        long turnaround = 0;
+        while (done < n) {
+            while (next < n && workload.getArrivalTime(byArrival[next]) <= time) {
+                ready.add(byArrival[next++]);
+            }
+            if (ready.isEmpty()) {
+                int arrival = workload.getArrivalTime(byArrival[next]);
+                checksum.add(-1);
+                checksum.add(time);
+                checksum.add(arrival);
+                time = arrival;
+                continue;
+            }
+            int process = ready.poll();
+            int run = Math.min(remaining[process], quantum);
+            checksum.add(rowOf[process]);
+            checksum.add(time);
+            checksum.add(time + run);
+            time += run;
+            remaining[process] -= run;
+            while (next < n && workload.getArrivalTime(byArrival[next]) <= time) {
+                ready.add(byArrival[next++]);
+            }
+            if (remaining[process] > 0) {
+                ready.add(process);
+            } else {
+                completion[rowOf[process]] = time;
+                done++;
+                turnaround += time - workload.getArrivalTime(process);
+                waiting += time - workload.getArrivalTime(process) - workload.getBurstTime(process);
+            }
+        }
+
+        for (int row = 0; row < n; row++) {
+            checksum.add(completion[row]);
+        }
+        checksum.addMetrics((double) waiting / n, (double) turnaround / n, time);
+        return checksum.value();
+    }
+}
@@ -0,0 +1,46 @@
+package org.app.roundrobin.perf;
+
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.ProcessColumns;
+
+/**
+ * 64-bit fingerprint of a schedule: every Gantt slice (arrival-order row or -1 for IDLE, start, end),
+ * every process's completion (in arrival order) and the metrics. Two runs agree only if they made
+ * exactly the same decisions.
+ */
+final class ScheduleChecksum {
+
+    private static final long PRIME = 0x100000001B3L;
+
+    private long hash = 0xCBF29CE484222325L;
+
+    void add(long value) {
+        hash = (hash ^ value) * PRIME;
+        hash ^= hash >>> 29;
+    }
+
+    void addMetrics(double avgWaiting, double avgTurnaround, int totalTime) {
+        add(Double.doubleToLongBits(avgWaiting));
+        add(Double.doubleToLongBits(avgTurnaround));
+        add(totalTime);
+    }
+
+    long value() { return hash; }
+
+    static long of(RoundRobinScheduler.SimulationResult result) {
+        ScheduleChecksum checksum = new ScheduleChecksum();
+        ProcessColumns columns = result.getProcessColumns();
+        for (int i = 0; i < result.getGanttEntryCount(); i++) {
+            checksum.add(result.getEntryRow(i));
+            checksum.add(result.getEntryStart(i));
+            checksum.add(result.getEntryEnd(i));
+        }
+        for (int row = 0; row < columns.size(); row++) {
+            checksum.add(columns.getCompletionTime(row));
+        }
+        Metrics metrics = result.getMetrics();
+        checksum.addMetrics(metrics.getAvgWaitingTime(), metrics.getAvgTurnaroundTime(), metrics.getTotalTime());
+        return checksum.value();
+    }
+}
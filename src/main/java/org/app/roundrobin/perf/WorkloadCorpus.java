@@ -0,0 +1,82 @@
+package org.app.roundrobin.perf;
+
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.SplittableRandom;
+
+/**
+ * Canonical workload shapes for the performance suite. Generation is seeded, so a shape, size and
+ * seed always give the same workload on every machine.
+ */
+public enum WorkloadCorpus {
+
+    /** Everything arrives at time 0: the ready queue is as long as it gets. */
+    ALL_AT_ZERO {
+        @Override
+        void fill(SplittableRandom random, int[] arrivals, int[] bursts) {
+            for (int i = 0; i < arrivals.length; i++) {
+                bursts[i] = 1 + random.nextInt(20);
+            }
+        }
+    },
+
+    /** Poisson arrivals in clusters: quiet stretches broken by bursts of near-simultaneous arrivals. */
+    BURSTY_POISSON {
+        @Override
+        void fill(SplittableRandom random, int[] arrivals, int[] bursts) {
+            double time = 0;
+            for (int i = 0; i < arrivals.length; i++) {
+                boolean inBurst = (i / 64) % 4 == 0;
+                double meanGap = inBurst ? 0.2 : 12.0;
+                time += -Math.log(1 - random.nextDouble()) * meanGap;
+                arrivals[i] = (int) time;
+                bursts[i] = 1 + random.nextInt(12);
+            }
+        }
+    },
+
+    /** Pareto-distributed bursts: most jobs are short, a few are very long. */
+    HEAVY_TAILED {
+        @Override
+        void fill(SplittableRandom random, int[] arrivals, int[] bursts) {
+            int time = 0;
+            for (int i = 0; i < arrivals.length; i++) {
+                time += random.nextInt(8);
+                arrivals[i] = time;
+                double pareto = 1 / Math.pow(1 - random.nextDouble(), 1 / 1.2);
+                bursts[i] = (int) Math.min(100_000, Math.ceil(pareto));
+            }
+        }
+    },
+
+    /** Small batches separated by gaps far longer than their work: mostly idle time. */
+    IDLE_GAPS {
+        @Override
+        void fill(SplittableRandom random, int[] arrivals, int[] bursts) {
+            int time = 0;
+            for (int i = 0; i < arrivals.length; i++) {
+                if (i % 16 == 0) {
+                    time += 500 + random.nextInt(1_000);
+                }
+                arrivals[i] = time + random.nextInt(4);
+                bursts[i] = 1 + random.nextInt(6);
+            }
+        }
+    };
+
+    abstract void fill(SplittableRandom random, int[] arrivals, int[] bursts);
+
+    public WorkloadRegistry generate(int processes, long seed) {
+        SplittableRandom random = new SplittableRandom(seed ^ ((long) ordinal() << 32) ^ processes);
+        String[] ids = new String[processes];
+        int[] arrivals = new int[processes];
+        int[] bursts = new int[processes];
+        fill(random, arrivals, bursts);
+        for (int i = 0; i < processes; i++) {
+            ids[i] = "P" + i;
+        }
+        WorkloadRegistry workload = new WorkloadRegistry();
+        workload.addAll(ids, arrivals, bursts);
+        return workload;
+    }
+}
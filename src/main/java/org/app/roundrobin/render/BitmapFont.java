@@ -0,0 +1,90 @@
+package org.app.roundrobin.render;
+
+/**
+ * Tiny 5x7 bitmap font used by the raster renderer.
+ * Lower-case letters are drawn as upper-case; unknown characters render as '?'.
+ */
+final class BitmapFont {
+
+    static final int GLYPH_WIDTH = 5;
+    static final int GLYPH_HEIGHT = 7;
+    static final int ADVANCE = GLYPH_WIDTH + 1;
+
+    private static final int[][] GLYPHS = new int[128][];
+
+    static {
+        glyph(' ', 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+        glyph('0', 0x0E, 0x11, 0x13, 0x15, 0x19, 0x11, 0x0E);
+        glyph('1', 0x04, 0x0C, 0x04, 0x04, 0x04, 0x04, 0x0E);
+        glyph('2', 0x0E, 0x11, 0x01, 0x02, 0x04, 0x08, 0x1F);
+        glyph('3', 0x1F, 0x02, 0x04, 0x02, 0x01, 0x11, 0x0E);
+        glyph('4', 0x02, 0x06, 0x0A, 0x12, 0x1F, 0x02, 0x02);
+        glyph('5', 0x1F, 0x10, 0x1E, 0x01, 0x01, 0x11, 0x0E);
+        glyph('6', 0x06, 0x08, 0x10, 0x1E, 0x11, 0x11, 0x0E);
+        glyph('7', 0x1F, 0x01, 0x02, 0x04, 0x08, 0x08, 0x08);
+        glyph('8', 0x0E, 0x11, 0x11, 0x0E, 0x11, 0x11, 0x0E);
+        glyph('9', 0x0E, 0x11, 0x11, 0x0F, 0x01, 0x02, 0x0C);
+        glyph('A', 0x0E, 0x11, 0x11, 0x11, 0x1F, 0x11, 0x11);
+        glyph('B', 0x1E, 0x11, 0x11, 0x1E, 0x11, 0x11, 0x1E);
+        glyph('C', 0x0E, 0x11, 0x10, 0x10, 0x10, 0x11, 0x0E);
+        glyph('D', 0x1C, 0x12, 0x11, 0x11, 0x11, 0x12, 0x1C);
+        glyph('E', 0x1F, 0x10, 0x10, 0x1E, 0x10, 0x10, 0x1F);
+        glyph('F', 0x1F, 0x10, 0x10, 0x1E, 0x10, 0x10, 0x10);
+        glyph('G', 0x0E, 0x11, 0x10, 0x17, 0x11, 0x11, 0x0F);
+        glyph('H', 0x11, 0x11, 0x11, 0x1F, 0x11, 0x11, 0x11);
+        glyph('I', 0x0E, 0x04, 0x04, 0x04, 0x04, 0x04, 0x0E);
+        glyph('J', 0x07, 0x02, 0x02, 0x02, 0x02, 0x12, 0x0C);
+        glyph('K', 0x11, 0x12, 0x14, 0x18, 0x14, 0x12, 0x11);
+        glyph('L', 0x10, 0x10, 0x10, 0x10, 0x10, 0x10, 0x1F);
+        glyph('M', 0x11, 0x1B, 0x15, 0x15, 0x11, 0x11, 0x11);
+        glyph('N', 0x11, 0x11, 0x19, 0x15, 0x13, 0x11, 0x11);
+        glyph('O', 0x0E, 0x11, 0x11, 0x11, 0x11, 0x11, 0x0E);
+        glyph('P', 0x1E, 0x11, 0x11, 0x1E, 0x10, 0x10, 0x10);
+        glyph('Q', 0x0E, 0x11, 0x11, 0x11, 0x15, 0x12, 0x0D);
+        glyph('R', 0x1E, 0x11, 0x11, 0x1E, 0x14, 0x12, 0x11);
+        glyph('S', 0x0F, 0x10, 0x10, 0x0E, 0x01, 0x01, 0x1E);
+        glyph('T', 0x1F, 0x04, 0x04, 0x04, 0x04, 0x04, 0x04);
+        glyph('U', 0x11, 0x11, 0x11, 0x11, 0x11, 0x11, 0x0E);
+        glyph('V', 0x11, 0x11, 0x11, 0x11, 0x11, 0x0A, 0x04);
+        glyph('W', 0x11, 0x11, 0x11, 0x15, 0x15, 0x15, 0x0A);
+        glyph('X', 0x11, 0x11, 0x0A, 0x04, 0x0A, 0x11, 0x11);
+        glyph('Y', 0x11, 0x11, 0x11, 0x0A, 0x04, 0x04, 0x04);
+        glyph('Z', 0x1F, 0x01, 0x02, 0x04, 0x08, 0x10, 0x1F);
+        glyph('-', 0x00, 0x00, 0x00, 0x1F, 0x00, 0x00, 0x00);
+        glyph('_', 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x1F);
+        glyph('.', 0x00, 0x00, 0x00, 0x00, 0x00, 0x0C, 0x0C);
+        glyph(',', 0x00, 0x00, 0x00, 0x00, 0x0C, 0x04, 0x08);
+        glyph(':', 0x00, 0x0C, 0x0C, 0x00, 0x0C, 0x0C, 0x00);
+        glyph('(', 0x02, 0x04, 0x08, 0x08, 0x08, 0x04, 0x02);
+        glyph(')', 0x08, 0x04, 0x02, 0x02, 0x02, 0x04, 0x08);
+        glyph('[', 0x0E, 0x08, 0x08, 0x08, 0x08, 0x08, 0x0E);
+        glyph(']', 0x0E, 0x02, 0x02, 0x02, 0x02, 0x02, 0x0E);
+        glyph('/', 0x00, 0x01, 0x02, 0x04, 0x08, 0x10, 0x00);
+        glyph('#', 0x0A, 0x0A, 0x1F, 0x0A, 0x1F, 0x0A, 0x0A);
+        glyph('+', 0x00, 0x04, 0x04, 0x1F, 0x04, 0x04, 0x00);
+        glyph('=', 0x00, 0x00, 0x1F, 0x00, 0x1F, 0x00, 0x00);
+        glyph('*', 0x00, 0x04, 0x15, 0x0E, 0x15, 0x04, 0x00);
+        glyph('%', 0x18, 0x19, 0x02, 0x04, 0x08, 0x13, 0x03);
+        glyph('?', 0x0E, 0x11, 0x01, 0x02, 0x04, 0x00, 0x04);
+    }
+
+    private BitmapFont() {
+    }
+
+    private static void glyph(char c, int... rows) {
+        GLYPHS[c] = rows;
+    }
+
+    /**
+     * Row bitmaps (5 bits each, MSB = leftmost column) for a character.
+     */
+    static int[] rows(char c) {
+        char upper = Character.toUpperCase(c);
+        int[] rows = upper < GLYPHS.length ? GLYPHS[upper] : null;
+        return rows != null ? rows : GLYPHS['?'];
+    }
+
+    static int textWidth(String text, int scale) {
+        return text.isEmpty() ? 0 : (text.length() * ADVANCE - 1) * scale;
+    }
+}
@@ -0,0 +1,323 @@
+package org.app.roundrobin.render;
+
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.model.ProcessColumns;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lane index over a Gantt chart: one lane per distinct process ID (in order of
+ * first appearance) with each lane's slices kept as a time-ordered index list.
+ * Lanes can be grouped by ID prefix through immutable {@link View}s, so a
+ * chart only ever has to lay out and draw the rows that are on screen.
+ */
+public final class GanttLanes {
+
+    public static final String IDLE_ID = "IDLE";
+
+    // Entries flattened into primitive columns (in time order)
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] entryLanes;
+
+    private final String[] laneIds;
+    private final int[] laneOffsets; // CSR: slices of lane i are laneSlices[laneOffsets[i] .. laneOffsets[i + 1])
+    private final int[] laneSlices;
+    private final int totalTime;
+
+    public GanttLanes(List<GanttEntry> entries) {
+        int n = entries.size();
+        starts = new int[n];
+        ends = new int[n];
+        entryLanes = new int[n];
+
+        Map<String, Integer> laneIndex = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            GanttEntry entry = entries.get(i);
+            starts[i] = entry.getStartTime();
+            ends[i] = entry.getEndTime();
+            Integer lane = laneIndex.putIfAbsent(entry.getProcessId(), laneIndex.size());
+            entryLanes[i] = lane != null ? lane : laneIndex.size() - 1;
+        }
+        laneIds = laneIndex.keySet().toArray(new String[0]);
+
+        laneOffsets = new int[laneIds.length + 1];
+        laneSlices = bucket(entryLanes, laneIds.length, laneOffsets);
+        totalTime = n == 0 ? 0 : ends[n - 1];
+    }
+
+    /**
+     * Lanes straight from a result's slice columns, without a {@link GanttEntry} per slice; the same lanes as
+     * {@code new GanttLanes(result.getGanttChart())}.
+     */
+    public GanttLanes(RoundRobinScheduler.SimulationResult result) {
+        int n = result.getGanttEntryCount();
+        ProcessColumns processes = result.getProcessColumns();
+        starts = new int[n];
+        ends = new int[n];
+        entryLanes = new int[n];
+
+        // Lane of each process row, shifted by one so idle time (row -1) has a slot too
+        int[] rowLanes = new int[processes.size() + 1];
+        Arrays.fill(rowLanes, -1);
+        String[] ids = new String[Math.min(n, rowLanes.length)];
+        int lanes = 0;
+        for (int i = 0; i < n; i++) {
+            int row = result.getEntryRow(i);
+            starts[i] = result.getEntryStart(i);
+            ends[i] = result.getEntryEnd(i);
+            if (rowLanes[row + 1] < 0) {
+                rowLanes[row + 1] = lanes;
+                ids[lanes++] = row < 0 ? IDLE_ID : processes.getProcessId(row);
+            }
+            entryLanes[i] = rowLanes[row + 1];
+        }
+        laneIds = Arrays.copyOf(ids, lanes);
+
+        laneOffsets = new int[laneIds.length + 1];
+        laneSlices = bucket(entryLanes, laneIds.length, laneOffsets);
+        totalTime = n == 0 ? 0 : ends[n - 1];
+    }
+
+    public int entryCount() { return starts.length; }
+    public int laneCount() { return laneIds.length; }
+    public int totalTime() { return totalTime; }
+    public String laneId(int lane) { return laneIds[lane]; }
+    public int startTime(int entry) { return starts[entry]; }
+    public int endTime(int entry) { return ends[entry]; }
+    public int laneOf(int entry) { return entryLanes[entry]; }
+
+    /**
+     * One row per lane.
+     */
+    public View ungrouped() {
+        int[] rowRefs = new int[laneIds.length];
+        for (int i = 0; i < rowRefs.length; i++) {
+            rowRefs[i] = i;
+        }
+        return new View(0, null, null, null, null, null, null, null, rowRefs);
+    }
+
+    /**
+     * Lanes sharing their first {@code prefixLength} characters are grouped; every group starts collapsed.
+     * IDLE and single-member groups stay plain lanes.
+     */
+    public View groupedByPrefix(int prefixLength) {
+        if (prefixLength <= 0) {
+            return ungrouped();
+        }
+        int[] laneGroup = new int[laneIds.length];
+        Map<String, Integer> groupIndex = new LinkedHashMap<>();
+        for (int lane = 0; lane < laneIds.length; lane++) {
+            String id = laneIds[lane];
+            String key = IDLE_ID.equals(id) ? id : id.substring(0, Math.min(prefixLength, id.length()));
+            Integer group = groupIndex.putIfAbsent(key, groupIndex.size());
+            laneGroup[lane] = group != null ? group : groupIndex.size() - 1;
+        }
+        String[] groupKeys = groupIndex.keySet().toArray(new String[0]);
+        int groups = groupKeys.length;
+
+        int[] memberOffsets = new int[groups + 1];
+        int[] members = bucket(laneGroup, groups, memberOffsets);
+
+        int[] entryGroups = new int[starts.length];
+        for (int i = 0; i < entryGroups.length; i++) {
+            entryGroups[i] = laneGroup[entryLanes[i]];
+        }
+        int[] sliceOffsets = new int[groups + 1];
+        int[] slices = bucket(entryGroups, groups, sliceOffsets);
+
+        boolean[] collapsed = new boolean[groups];
+        Arrays.fill(collapsed, true);
+        return new View(prefixLength, laneGroup, groupKeys, memberOffsets, members, sliceOffsets, slices, collapsed,
+                buildRows(groupKeys, memberOffsets, members, collapsed));
+    }
+
+    private static int[] buildRows(String[] groupKeys, int[] memberOffsets, int[] members, boolean[] collapsed) {
+        int count = 0;
+        for (int g = 0; g < groupKeys.length; g++) {
+            int size = memberOffsets[g + 1] - memberOffsets[g];
+            count += size == 1 ? 1 : (collapsed[g] ? 1 : 1 + size);
+        }
+        int[] rowRefs = new int[count];
+        int row = 0;
+        for (int g = 0; g < groupKeys.length; g++) {
+            int from = memberOffsets[g];
+            int to = memberOffsets[g + 1];
+            if (to - from == 1) {
+                rowRefs[row++] = members[from];
+                continue;
+            }
+            rowRefs[row++] = -g - 1;
+            if (!collapsed[g]) {
+                for (int m = from; m < to; m++) {
+                    rowRefs[row++] = members[m];
+                }
+            }
+        }
+        return rowRefs;
+    }
+
+    /**
+     * Counting-sort {@code keys} indices into CSR form; order within a bucket follows index order.
+     */
+    private static int[] bucket(int[] keys, int buckets, int[] offsets) {
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            offsets[b + 1] += offsets[b];
+        }
+        int[] cursor = Arrays.copyOf(offsets, buckets);
+        int[] out = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            out[cursor[keys[i]]++] = i;
+        }
+        return out;
+    }
+
+    /**
+     * Immutable row layout: which lanes and groups are shown, in order.
+     * Safe to hand to a background renderer while the UI derives a new view.
+     */
+    public final class View {
+        private final int prefixLength;
+        private final int[] laneGroup;
+        private final String[] groupKeys;
+        private final int[] memberOffsets;
+        private final int[] members;
+        private final int[] groupSliceOffsets;
+        private final int[] groupSlices;
+        private final boolean[] collapsed;
+        private final int[] rowRefs; // >= 0: lane index, < 0: group (-ref - 1)
+
+        private View(int prefixLength, int[] laneGroup, String[] groupKeys, int[] memberOffsets, int[] members,
+                     int[] groupSliceOffsets, int[] groupSlices, boolean[] collapsed, int[] rowRefs) {
+            this.prefixLength = prefixLength;
+            this.laneGroup = laneGroup;
+            this.groupKeys = groupKeys;
+            this.memberOffsets = memberOffsets;
+            this.members = members;
+            this.groupSliceOffsets = groupSliceOffsets;
+            this.groupSlices = groupSlices;
+            this.collapsed = collapsed;
+            this.rowRefs = rowRefs;
+        }
+
+        public GanttLanes lanes() { return GanttLanes.this; }
+        public int prefixLength() { return prefixLength; }
+        public int rowCount() { return rowRefs.length; }
+
+        public boolean isGroupRow(int row) {
+            return rowRefs[row] < 0;
+        }
+
+        /**
+         * True for lane rows shown under an expanded group header.
+         */
+        public boolean isGroupMember(int row) {
+            int ref = rowRefs[row];
+            if (laneGroup == null || ref < 0) {
+                return false;
+            }
+            int g = laneGroup[ref];
+            return memberOffsets[g + 1] - memberOffsets[g] > 1;
+        }
+
+        /**
+         * Lane whose color a row is drawn with; for group rows, the group's first member.
+         */
+        public int colorLane(int row) {
+            int ref = rowRefs[row];
+            return ref >= 0 ? ref : members[memberOffsets[-ref - 1]];
+        }
+
+        public String rowLabel(int row) {
+            int ref = rowRefs[row];
+            if (ref >= 0) {
+                return laneIds[ref];
+            }
+            int g = -ref - 1;
+            int size = memberOffsets[g + 1] - memberOffsets[g];
+            return (collapsed[g] ? "[+] " : "[-] ") + groupKeys[g] + "* (" + size + ")";
+        }
+
+        /**
+         * Expand or collapse the group on {@code row}; plain lane rows return this view unchanged.
+         */
+        public View toggle(int row) {
+            if (row < 0 || row >= rowRefs.length || !isGroupRow(row)) {
+                return this;
+            }
+            boolean[] nextCollapsed = collapsed.clone();
+            int g = -rowRefs[row] - 1;
+            nextCollapsed[g] = !nextCollapsed[g];
+            return new View(prefixLength, laneGroup, groupKeys, memberOffsets, members, groupSliceOffsets, groupSlices,
+                    nextCollapsed, buildRows(groupKeys, memberOffsets, members, nextCollapsed));
+        }
+
+        public int sliceCount(int row) {
+            int ref = rowRefs[row];
+            return ref >= 0
+                    ? laneOffsets[ref + 1] - laneOffsets[ref]
+                    : groupSliceOffsets[-ref] - groupSliceOffsets[-ref - 1];
+        }
+
+        /**
+         * Entry index of the k-th slice (in time order) on a row.
+         */
+        public int slice(int row, int k) {
+            int ref = rowRefs[row];
+            return ref >= 0 ? laneSlices[laneOffsets[ref] + k] : groupSlices[groupSliceOffsets[-ref - 1] + k];
+        }
+
+        /**
+         * Position of the first slice on {@code row} ending at or after {@code time}.
+         */
+        public int firstSliceEndingAfter(int row, double time) {
+            int lo = 0;
+            int hi = sliceCount(row);
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ends[slice(row, mid)] < time) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Fraction of each column of {@code timePerColumn} units (starting at {@code fromTime})
+         * during which a process of this row was on the CPU.
+         */
+        public double[] occupancy(int row, double fromTime, double timePerColumn, int columns) {
+            double[] busy = new double[columns];
+            double toTime = fromTime + timePerColumn * columns;
+            int count = sliceCount(row);
+            for (int k = firstSliceEndingAfter(row, fromTime); k < count; k++) {
+                int entry = slice(row, k);
+                if (starts[entry] >= toTime) {
+                    break;
+                }
+                double s = Math.max(starts[entry], fromTime);
+                double e = Math.min(ends[entry], toTime);
+                int firstColumn = (int) ((s - fromTime) / timePerColumn);
+                int lastColumn = Math.min(columns - 1, (int) ((e - fromTime) / timePerColumn));
+                for (int c = firstColumn; c <= lastColumn; c++) {
+                    double columnStart = fromTime + c * timePerColumn;
+                    double overlap = Math.min(e, columnStart + timePerColumn) - Math.max(s, columnStart);
+                    if (overlap > 0) {
+                        busy[c] += overlap / timePerColumn;
+                    }
+                }
+            }
+            return busy;
+        }
+    }
+}
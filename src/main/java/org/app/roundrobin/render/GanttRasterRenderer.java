@@ -0,0 +1,357 @@
+package org.app.roundrobin.render;
+
+import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.utils.Constants;
+import org.app.roundrobin.utils.PngStreamWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Rasterizes a Gantt chart straight into an ARGB int buffer.
+ * Does not touch the JavaFX scene graph, so it can run on any thread
+ * (and headless); bands of rows can be rendered in parallel.
+ */
+public class GanttRasterRenderer {
+
+    private static final int MARGIN_LEFT = 120;
+    private static final int MARGIN_RIGHT = 40;
+    private static final int HEADER_HEIGHT = 60;
+    private static final int LANE_HEIGHT = 30;
+    private static final int LANE_SPACING = 8;
+    private static final int TIMELINE_SPACE = 60;
+    private static final int UNIT_WIDTH = 40; // pixels per time unit before clamping
+    private static final int MIN_TICK_SPACING = 50;
+    private static final int BAND_HEIGHT = 64;
+    private static final int STRIP_PIXEL_BUDGET = 8 * 1024 * 1024; // ints held per export strip
+
+    private static final int BACKGROUND = 0xFFFFFFFF;
+    private static final int TEXT_COLOR = 0xFF2C3E50;
+    private static final int SUBTLE_TEXT_COLOR = 0xFF7F8C8D;
+    private static final int TIMELINE_COLOR = 0xFF34495E;
+    private static final int LANE_STRIPE_COLOR = 0xFFF4F6F7;
+
+    private final int width;
+    private final int height;
+    private final int totalTime;
+    private final double scale;
+    private final int tickInterval;
+
+    private final GanttLanes lanes;
+    private final GanttLanes.View view;
+    private final int firstRow;
+    private final int rowsShown;
+
+    private final int[] laneColors;
+    private final int[] laneBorders;
+
+    public GanttRasterRenderer(List<GanttEntry> entries, int maxWidth, int maxHeight) {
+        this(new GanttLanes(entries).ungrouped(), 0, Integer.MAX_VALUE, maxWidth, maxHeight);
+    }
+
+    /**
+     * Render at most {@code maxRows} rows of {@code view}, starting at {@code firstRow}.
+     */
+    public GanttRasterRenderer(GanttLanes.View view, int firstRow, int maxRows, int maxWidth, int maxHeight) {
+        this.view = view;
+        this.lanes = view.lanes();
+        this.firstRow = Math.max(0, Math.min(firstRow, view.rowCount() - 1));
+        int fitting = (maxHeight - HEADER_HEIGHT - TIMELINE_SPACE) / laneStride();
+        this.rowsShown = Math.max(0, Math.min(Math.min(maxRows, fitting), view.rowCount() - this.firstRow));
+
+        laneColors = new int[lanes.laneCount()];
+        laneBorders = new int[lanes.laneCount()];
+        for (int i = 0; i < laneColors.length; i++) {
+            laneColors[i] = parseColor(Constants.getProcessColor(lanes.laneId(i)));
+            laneBorders[i] = darker(laneColors[i]);
+        }
+
+        totalTime = Math.max(1, lanes.totalTime());
+        long naturalWidth = (long) totalTime * UNIT_WIDTH + MARGIN_LEFT + MARGIN_RIGHT;
+        long naturalHeight = HEADER_HEIGHT + (long) rowsShown * laneStride() + TIMELINE_SPACE;
+        width = (int) Math.max(Constants.CANVAS_WIDTH, Math.min(naturalWidth, maxWidth));
+        height = (int) Math.max(HEADER_HEIGHT + TIMELINE_SPACE, Math.min(naturalHeight, maxHeight));
+
+        scale = (width - MARGIN_LEFT - MARGIN_RIGHT) / (double) totalTime;
+        tickInterval = niceTickInterval(MIN_TICK_SPACING / scale);
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public double getPixelsPerTimeUnit() { return scale; }
+    public int getRowsShown() { return rowsShown; }
+
+    /**
+     * Time drawn at pixel column {@code x}; negative left of the time axis.
+     */
+    public double timeAt(double x) {
+        return (x - MARGIN_LEFT) / scale;
+    }
+
+    /**
+     * View row drawn at pixel row {@code y}, or -1 outside the lanes.
+     */
+    public int rowAt(double y) {
+        int slot = (int) Math.floor((y - HEADER_HEIGHT + LANE_SPACING / 2.0) / laneStride());
+        return slot >= 0 && slot < rowsShown ? firstRow + slot : -1;
+    }
+
+    /**
+     * Render the whole chart; bands of rows go to the common fork-join pool when {@code parallel}.
+     */
+    public int[] render(boolean parallel) {
+        int[] argb = new int[width * height];
+        int bands = (height + BAND_HEIGHT - 1) / BAND_HEIGHT;
+        IntStream range = IntStream.range(0, bands);
+        (parallel ? range.parallel() : range).forEach(band -> {
+            int y0 = band * BAND_HEIGHT;
+            int rows = Math.min(BAND_HEIGHT, height - y0);
+            renderRegion(0, y0, width, rows, argb, y0 * width, width);
+        });
+        return argb;
+    }
+
+    /**
+     * Headless export: render strip by strip and stream into a PNG.
+     */
+    public void writePng(File file) throws IOException {
+        int stripHeight = Math.max(1, Math.min(height, STRIP_PIXEL_BUDGET / width));
+        if (stripHeight < height && stripHeight > BAND_HEIGHT) {
+            stripHeight -= stripHeight % BAND_HEIGHT; // whole bands
+        }
+        int[] strip = new int[Math.toIntExact((long) width * stripHeight)];
+        try (PngStreamWriter png = new PngStreamWriter(file, width, height)) {
+            for (int y0 = 0; y0 < height; y0 += stripHeight) {
+                int rows = Math.min(stripHeight, height - y0);
+                int stripY = y0;
+                int bands = (rows + BAND_HEIGHT - 1) / BAND_HEIGHT;
+                IntStream.range(0, bands).parallel().forEach(band -> {
+                    int by = band * BAND_HEIGHT;
+                    int bandRows = Math.min(BAND_HEIGHT, rows - by);
+                    renderRegion(0, stripY + by, width, bandRows, strip, by * width, width);
+                });
+                png.writeRows(strip, 0, width, rows);
+            }
+        }
+    }
+
+    /**
+     * Render the chart area [x0, x0+w) x [y0, y0+h) into {@code dst} starting at {@code offset}.
+     * Safe to call concurrently for disjoint regions.
+     */
+    public void renderRegion(int x0, int y0, int w, int h, int[] dst, int offset, int stride) {
+        Target t = new Target(dst, offset, stride, x0, y0, w, h);
+        t.fillRect(x0, y0, w, h, BACKGROUND);
+
+        drawHeader(t);
+        drawLanes(t);
+        drawBars(t);
+        drawTimeline(t);
+    }
+
+    private void drawHeader(Target t) {
+        if (!t.intersectsRows(0, HEADER_HEIGHT)) {
+            return;
+        }
+        t.drawText("ROUND ROBIN SCHEDULING - GANTT CHART", width / 2, 16, 2, TEXT_COLOR);
+        t.drawText("Process execution timeline with time units", width / 2, 38, 1, SUBTLE_TEXT_COLOR);
+    }
+
+    private void drawLanes(Target t) {
+        // One extra row: stripes reach LANE_SPACING / 2 above their row
+        int first = Math.max(0, (t.y0 - HEADER_HEIGHT) / laneStride());
+        int last = Math.min(rowsShown - 1, (t.y0 + t.h - HEADER_HEIGHT) / laneStride() + 1);
+        for (int slot = first; slot <= last; slot++) {
+            int row = firstRow + slot;
+            int y = laneY(slot);
+            if (row % 2 == 1) {
+                t.fillRect(MARGIN_LEFT, y - LANE_SPACING / 2, width - MARGIN_LEFT - MARGIN_RIGHT, laneStride(), LANE_STRIPE_COLOR);
+            }
+            String label = view.rowLabel(row);
+            int labelRight = MARGIN_LEFT - 8;
+            int textX = labelRight - BitmapFont.textWidth(label, 1) / 2;
+            t.drawText(label, textX, y + (LANE_HEIGHT - BitmapFont.GLYPH_HEIGHT) / 2, 1, TEXT_COLOR);
+        }
+    }
+
+    private void drawBars(Target t) {
+        double fromTime = (t.x0 - MARGIN_LEFT) / scale;
+        double toTime = (t.x0 + t.w - MARGIN_LEFT) / scale;
+        int first = Math.max(0, (t.y0 - HEADER_HEIGHT) / laneStride());
+        int last = Math.min(rowsShown - 1, (t.y0 + t.h - HEADER_HEIGHT) / laneStride());
+
+        for (int slot = first; slot <= last; slot++) {
+            int row = firstRow + slot;
+            if (view.isGroupRow(row)) {
+                drawOccupancy(t, row, laneY(slot));
+            } else {
+                drawLaneBars(t, row, laneY(slot), fromTime, toTime);
+            }
+        }
+    }
+
+    private void drawLaneBars(Target t, int row, int y, double fromTime, double toTime) {
+        int lane = view.colorLane(row);
+        String label = lanes.laneId(lane);
+        int count = view.sliceCount(row);
+        for (int k = view.firstSliceEndingAfter(row, fromTime); k < count; k++) {
+            int entry = view.slice(row, k);
+            if (lanes.startTime(entry) > toTime) {
+                break;
+            }
+            int x = MARGIN_LEFT + (int) Math.round(lanes.startTime(entry) * scale);
+            int barWidth = Math.max(2, MARGIN_LEFT + (int) Math.round(lanes.endTime(entry) * scale) - x);
+
+            t.fillRect(x, y, barWidth, LANE_HEIGHT, laneBorders[lane]);
+            if (barWidth > 2) {
+                t.fillRect(x + 1, y + 1, barWidth - 2, LANE_HEIGHT - 2, laneColors[lane]);
+            }
+            if (BitmapFont.textWidth(label, 1) + 4 <= barWidth) {
+                t.drawText(label, x + barWidth / 2, y + (LANE_HEIGHT - BitmapFont.GLYPH_HEIGHT) / 2, 1, 0xFFFFFFFF);
+            }
+        }
+    }
+
+    /**
+     * Collapsed group: each pixel column is shaded by the fraction of its time the group held the CPU.
+     */
+    private void drawOccupancy(Target t, int row, int y) {
+        int left = Math.max(t.x0, MARGIN_LEFT);
+        int right = Math.min(t.x0 + t.w, width - MARGIN_RIGHT);
+        if (left >= right) {
+            return;
+        }
+        int color = laneColors[view.colorLane(row)];
+        double[] busy = view.occupancy(row, (left - MARGIN_LEFT) / scale, 1 / scale, right - left);
+        for (int c = 0; c < busy.length; c++) {
+            if (busy[c] > 0) {
+                t.fillRect(left + c, y, 1, LANE_HEIGHT, blend(BACKGROUND, color, Math.min(1.0, busy[c])));
+            }
+        }
+    }
+
+    private void drawTimeline(Target t) {
+        int timelineY = laneY(rowsShown) + 4;
+        if (!t.intersectsRows(timelineY - 6, timelineY + 24)) {
+            return;
+        }
+        int endX = MARGIN_LEFT + (int) Math.round(totalTime * scale);
+        t.fillRect(MARGIN_LEFT, timelineY, endX - MARGIN_LEFT, 3, TIMELINE_COLOR);
+
+        int firstTick = (int) Math.max(0, Math.floor((t.x0 - MARGIN_LEFT) / scale / tickInterval)) * tickInterval;
+        for (int time = firstTick; time <= totalTime; time += tickInterval) {
+            int x = MARGIN_LEFT + (int) Math.round(time * scale);
+            if (x > t.x0 + t.w + MIN_TICK_SPACING) {
+                break;
+            }
+            t.fillRect(x, timelineY - 5, 1, 13, SUBTLE_TEXT_COLOR);
+            t.drawText(String.valueOf(time), x, timelineY + 12, 1, TEXT_COLOR);
+        }
+    }
+
+    private int laneStride() {
+        return LANE_HEIGHT + LANE_SPACING;
+    }
+
+    private int laneY(int slot) {
+        return HEADER_HEIGHT + slot * laneStride();
+    }
+
+    private static int niceTickInterval(double minUnits) {
+        int step = 1;
+        while (step < minUnits) {
+            if (step * 2 >= minUnits) return step * 2;
+            if (step * 5 >= minUnits) return step * 5;
+            step *= 10;
+        }
+        return step;
+    }
+
+    private static int parseColor(String hex) {
+        return 0xFF000000 | Integer.parseInt(hex.substring(1), 16);
+    }
+
+    private static int blend(int from, int to, double amount) {
+        int r = (int) Math.round(((from >> 16) & 0xFF) + ((((to >> 16) & 0xFF) - ((from >> 16) & 0xFF)) * amount));
+        int g = (int) Math.round(((from >> 8) & 0xFF) + ((((to >> 8) & 0xFF) - ((from >> 8) & 0xFF)) * amount));
+        int b = (int) Math.round((from & 0xFF) + (((to & 0xFF) - (from & 0xFF)) * amount));
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+
+    private static int darker(int argb) {
+        int r = (int) (((argb >> 16) & 0xFF) * 0.7);
+        int g = (int) (((argb >> 8) & 0xFF) * 0.7);
+        int b = (int) ((argb & 0xFF) * 0.7);
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * A clipped window onto the destination buffer, in chart coordinates.
+     */
+    private static final class Target {
+        final int[] dst;
+        final int offset;
+        final int stride;
+        final int x0;
+        final int y0;
+        final int w;
+        final int h;
+
+        Target(int[] dst, int offset, int stride, int x0, int y0, int w, int h) {
+            this.dst = dst;
+            this.offset = offset;
+            this.stride = stride;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.w = w;
+            this.h = h;
+        }
+
+        boolean intersectsRows(int from, int to) {
+            return to > y0 && from < y0 + h;
+        }
+
+        void fillRect(int x, int y, int rw, int rh, int color) {
+            int left = Math.max(x, x0);
+            int right = Math.min(x + rw, x0 + w);
+            int top = Math.max(y, y0);
+            int bottom = Math.min(y + rh, y0 + h);
+            if (left >= right || top >= bottom) {
+                return;
+            }
+            for (int row = top; row < bottom; row++) {
+                int base = offset + (row - y0) * stride - x0;
+                Arrays.fill(dst, base + left, base + right, color);
+            }
+        }
+
+        /**
+         * Draw text horizontally centered on {@code centerX} with its top at {@code top}.
+         */
+        void drawText(String text, int centerX, int top, int scale, int color) {
+            int textWidth = BitmapFont.textWidth(text, scale);
+            if (!intersectsRows(top, top + BitmapFont.GLYPH_HEIGHT * scale)) {
+                return;
+            }
+            int x = centerX - textWidth / 2;
+            if (x > x0 + w || x + textWidth < x0) {
+                return;
+            }
+            for (int c = 0; c < text.length(); c++) {
+                int[] rows = BitmapFont.rows(text.charAt(c));
+                for (int gy = 0; gy < BitmapFont.GLYPH_HEIGHT; gy++) {
+                    int bits = rows[gy];
+                    for (int gx = 0; gx < BitmapFont.GLYPH_WIDTH; gx++) {
+                        if ((bits & (0x10 >> gx)) != 0) {
+                            fillRect(x + gx * scale, top + gy * scale, scale, scale, color);
+                        }
+                    }
+                }
+                x += BitmapFont.ADVANCE * scale;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.app.roundrobin.runtime;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unbounded lock-free queue for many producers and a single consumer (a linked list with a stub node).
+ * Offering is one atomic swap of the tail; polling touches only the consumer's head.
+ * An offer in progress may be invisible to {@link #poll()} for a moment; callers wake the consumer
+ * after offering, so it is never missed for good.
+ */
+final class MpscQueue<E> {
+
+    private static final class Node<E> {
+        E value;
+        volatile Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+
+    private final AtomicReference<Node<E>> tail;
+    private Node<E> head; // consumer only
+
+    MpscQueue() {
+        Node<E> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    void offer(E value) {
+        Node<E> node = new Node<>(value);
+        tail.getAndSet(node).next = node;
+    }
+
+    /**
+     * Next element, or null if none is visible yet. Consumer thread only.
+     */
+    E poll() {
+        Node<E> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        E value = next.value;
+        next.value = null;
+        head = next;
+        return value;
+    }
+
+    boolean isEmpty() {
+        return head.next == null;
+    }
+}
@@ -0,0 +1,351 @@
+package org.app.roundrobin.runtime;
+
+import org.app.roundrobin.model.GanttEntry;
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs {@link SlicedTask}s on a fixed pool of workers with Round Robin time slicing, using the
+ * simulator's quantum semantics: a task runs for up to {@code quantum} time units, then goes to the
+ * back of its worker's ready queue, behind tasks that were submitted while it ran.
+ * <p>
+ * Submissions are spread over the workers in turn. Each worker has a lock-free MPSC inbox that
+ * submitters append to, and drains it into a private ring of ready tasks, so the hot path takes no locks.
+ * Slicing is cooperative: the quantum is checked between steps, so one long step overruns its slice.
+ * <p>
+ * Every slice is recorded as a {@link GanttEntry} per worker (times in units since the executor started),
+ * and completed tasks give real {@link Metrics}. {@link #toWorkload()} turns the completed tasks into
+ * a workload, so the simulator's prediction can be compared with what actually happened.
+ */
+public class RoundRobinExecutor implements Executor, AutoCloseable {
+
+    private final int quantum;
+    private final long unitNanos;
+    private final long quantumNanos;
+    private final long epoch = System.nanoTime();
+    private final Worker[] workers;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong unnamed = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * @param quantum time slice in milliseconds
+     */
+    public RoundRobinExecutor(int workers, int quantum) {
+        this(workers, quantum, 1_000_000);
+    }
+
+    /**
+     * @param quantum   time slice in time units
+     * @param unitNanos length of one time unit
+     */
+    public RoundRobinExecutor(int workers, int quantum, long unitNanos) {
+        if (workers <= 0 || quantum <= 0 || unitNanos <= 0) {
+            throw new IllegalArgumentException("Workers, quantum and time unit must be positive");
+        }
+        this.quantum = quantum;
+        this.unitNanos = unitNanos;
+        this.quantumNanos = quantum * unitNanos;
+        this.workers = new Worker[workers];
+        for (int i = 0; i < workers; i++) {
+            this.workers[i] = new Worker(i);
+        }
+        for (Worker worker : this.workers) {
+            worker.thread.start();
+        }
+    }
+
+    /**
+     * Run a plain runnable as a task of a single step.
+     */
+    @Override
+    public void execute(Runnable command) {
+        submit("T" + unnamed.getAndIncrement(), () -> {
+            command.run();
+            return false;
+        });
+    }
+
+    /**
+     * Queue a task; the future completes when its last step returns, or exceptionally if a step throws.
+     *
+     * @param name process ID used in the timeline and workload
+     */
+    public CompletableFuture<Void> submit(String name, SlicedTask task) {
+        Worker worker = workers[(int) (submitted.getAndIncrement() % workers.length)];
+        // Announced before checking closed, so a closing worker waits for this offer instead of exiting under it
+        worker.submitting.incrementAndGet();
+        try {
+            if (closed) {
+                throw new RejectedExecutionException("Executor is closed");
+            }
+            Task t = new Task(name, task, System.nanoTime());
+            worker.inbox.offer(t);
+            if (worker.waiting) {
+                LockSupport.unpark(worker.thread);
+            }
+            return t.future;
+        } finally {
+            worker.submitting.decrementAndGet();
+        }
+    }
+
+    public int getQuantum() { return quantum; }
+    public int getWorkerCount() { return workers.length; }
+
+    /**
+     * Slices run so far by one worker, IDLE marking time it had nothing to run.
+     */
+    public List<GanttEntry> getTimeline(int worker) {
+        return workers[worker].timeline();
+    }
+
+    /**
+     * Metrics of the tasks completed so far, in time units; total time is the time since the executor started.
+     */
+    public Metrics getMetrics() {
+        long completed = 0;
+        long turnaround = 0;
+        long running = 0;
+        long busy = 0;
+        for (Worker worker : workers) {
+            int count = worker.completedCount;
+            for (int i = 0; i < count; i++) {
+                turnaround += worker.completions[i] - worker.arrivals[i];
+                running += worker.runTimes[i];
+            }
+            completed += count;
+            busy += worker.busyNanos;
+        }
+        long elapsed = System.nanoTime() - epoch;
+        double elapsedUnits = (double) elapsed / unitNanos;
+        return new Metrics(
+                completed == 0 ? 0 : (double) (turnaround - running) / unitNanos / completed,
+                completed == 0 ? 0 : (double) turnaround / unitNanos / completed,
+                elapsed > 0 ? (double) busy / ((double) elapsed * workers.length) * 100 : 0.0,
+                elapsedUnits > 0 ? completed / elapsedUnits : 0.0,
+                (int) completed, (int) Math.round(elapsedUnits));
+    }
+
+    /**
+     * Completed tasks as a workload (arrival = submission, burst = measured running time, at least one unit),
+     * for scheduling with the simulator. Task names must be unique.
+     */
+    public WorkloadRegistry toWorkload() {
+        int[] counts = new int[workers.length];
+        int total = 0;
+        for (int w = 0; w < workers.length; w++) {
+            counts[w] = workers[w].completedCount;
+            total += counts[w];
+        }
+        String[] ids = new String[total];
+        int[] arrivals = new int[total];
+        int[] bursts = new int[total];
+        int row = 0;
+        for (int w = 0; w < workers.length; w++) {
+            Worker worker = workers[w];
+            for (int i = 0; i < counts[w]; i++, row++) {
+                ids[row] = worker.names[i];
+                arrivals[row] = units(worker.arrivals[i]);
+                bursts[row] = (int) Math.max(1, Math.round((double) worker.runTimes[i] / unitNanos));
+            }
+        }
+        WorkloadRegistry workload = new WorkloadRegistry();
+        workload.addAll(ids, arrivals, bursts);
+        return workload;
+    }
+
+    /**
+     * Stop accepting tasks, run the queued ones to completion, then stop the workers. If the calling thread
+     * is interrupted while waiting, the workers finish in the background and the interrupt flag is set again.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+        try {
+            for (Worker worker : workers) {
+                worker.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int units(long nanos) {
+        return (int) ((nanos - epoch) / unitNanos);
+    }
+
+    private static final class Task {
+        final String name;
+        final SlicedTask body;
+        final long arrival;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        long running;
+
+        Task(String name, SlicedTask body, long arrival) {
+            this.name = name;
+            this.body = body;
+            this.arrival = arrival;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        final MpscQueue<Task> inbox = new MpscQueue<>();
+        final AtomicInteger submitting = new AtomicInteger(); // submit calls between their closed check and offer
+        final Thread thread;
+        volatile boolean waiting;
+
+        // Ready queue: a growable ring owned by this worker
+        private Task[] ring = new Task[16];
+        private int head;
+        private int queued;
+
+        // Timeline and completions, appended by this worker only; readers see up to the published count
+        private String[] sliceNames = new String[256];
+        private int[] sliceStarts = new int[256];
+        private int[] sliceEnds = new int[256];
+        private volatile int sliceCount;
+        private String[] names = new String[64];
+        private long[] arrivals = new long[64];
+        private long[] runTimes = new long[64];
+        private long[] completions = new long[64];
+        private volatile int completedCount;
+        private volatile long busyNanos;
+        private long lastEnd = epoch;
+
+        Worker(int index) {
+            this.thread = new Thread(this, "round-robin-worker-" + index);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                drainInbox();
+                if (queued == 0) {
+                    if (closed) {
+                        if (submitting.get() == 0 && inbox.isEmpty()) {
+                            return;
+                        }
+                        Thread.onSpinWait(); // a submit that passed its closed check is still offering
+                        continue;
+                    }
+                    waiting = true;
+                    if (inbox.isEmpty() && !closed) {
+                        LockSupport.park(this);
+                    }
+                    waiting = false;
+                    continue;
+                }
+
+                Task task = ring[head];
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                queued--;
+
+                long start = System.nanoTime();
+                if (units(start) > units(lastEnd)) {
+                    record("IDLE", lastEnd, start);
+                }
+                boolean more = runSlice(task, start + quantumNanos);
+                long end = System.nanoTime();
+                task.running += end - start;
+                busyNanos += end - start;
+                record(task.name, start, end);
+                lastEnd = end;
+
+                // Tasks submitted during the slice queue ahead of the preempted one
+                drainInbox();
+                if (more) {
+                    enqueue(task);
+                } else {
+                    complete(task, end);
+                }
+            }
+        }
+
+        private boolean runSlice(Task task, long deadline) {
+            try {
+                boolean more;
+                do {
+                    more = task.body.step();
+                } while (more && System.nanoTime() < deadline);
+                return more;
+            } catch (Throwable e) {
+                task.future.completeExceptionally(e);
+                return false;
+            }
+        }
+
+        private void drainInbox() {
+            Task task;
+            while ((task = inbox.poll()) != null) {
+                enqueue(task);
+            }
+        }
+
+        private void enqueue(Task task) {
+            if (queued == ring.length) {
+                Task[] grown = new Task[ring.length * 2];
+                for (int i = 0; i < queued; i++) {
+                    grown[i] = ring[(head + i) % ring.length];
+                }
+                ring = grown;
+                head = 0;
+            }
+            ring[(head + queued) % ring.length] = task;
+            queued++;
+        }
+
+        private void record(String name, long start, long end) {
+            int count = sliceCount;
+            if (count == sliceNames.length) {
+                sliceNames = Arrays.copyOf(sliceNames, count * 2);
+                sliceStarts = Arrays.copyOf(sliceStarts, count * 2);
+                sliceEnds = Arrays.copyOf(sliceEnds, count * 2);
+            }
+            sliceNames[count] = name;
+            sliceStarts[count] = units(start);
+            sliceEnds[count] = units(end);
+            sliceCount = count + 1;
+        }
+
+        private void complete(Task task, long end) {
+            int count = completedCount;
+            if (count == names.length) {
+                names = Arrays.copyOf(names, count * 2);
+                arrivals = Arrays.copyOf(arrivals, count * 2);
+                runTimes = Arrays.copyOf(runTimes, count * 2);
+                completions = Arrays.copyOf(completions, count * 2);
+            }
+            names[count] = task.name;
+            arrivals[count] = task.arrival;
+            runTimes[count] = task.running;
+            completions[count] = end;
+            completedCount = count + 1;
+            task.future.complete(null); // no-op if a step failed
+        }
+
+        List<GanttEntry> timeline() {
+            int count = sliceCount; // read first: the arrays read below hold at least this many
+            List<GanttEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new GanttEntry(sliceNames[i], sliceStarts[i], sliceEnds[i]));
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.app.roundrobin.runtime;
+
+/**
+ * A cooperative task for {@link RoundRobinExecutor}: a step function called repeatedly until it reports
+ * that it is finished. Steps should be short; the executor only switches tasks between steps.
+ */
+@FunctionalInterface
+public interface SlicedTask {
+
+    /**
+     * Run one step.
+     *
+     * @return true if the task has more steps to run
+     */
+    boolean step() throws Exception;
+}
@@ -0,0 +1,66 @@
+package org.app.roundrobin.series;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling: keeps the first and last point, and from each of
+ * {@code threshold - 2} equal buckets in between the point forming the largest triangle with the point
+ * kept before it and the mean of the next bucket. Peaks and dips survive, unlike plain averaging.
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * Indexes of the points to draw out of the first {@code count} of {@code x, y}; all of them if
+     * {@code count <= threshold}. {@code x} must be increasing.
+     */
+    public static int[] downsample(double[] x, double[] y, int count, int threshold) {
+        if (count <= threshold || threshold < 3) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        int[] kept = new int[threshold];
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+        int a = 0;
+        kept[0] = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int from = (int) (bucket * bucketSize) + 1;
+            int to = (int) ((bucket + 1) * bucketSize) + 1;
+
+            // Mean of the next bucket (the last point for the final bucket)
+            int nextFrom = to;
+            int nextTo = Math.min(count, (int) ((bucket + 2) * bucketSize) + 1);
+            double meanX = 0;
+            double meanY = 0;
+            for (int i = nextFrom; i < nextTo; i++) {
+                meanX += x[i];
+                meanY += y[i];
+            }
+            int nextCount = nextTo - nextFrom;
+            if (nextCount > 0) {
+                meanX /= nextCount;
+                meanY /= nextCount;
+            } else {
+                meanX = x[count - 1];
+                meanY = y[count - 1];
+            }
+
+            double largest = -1;
+            int chosen = from;
+            for (int i = from; i < to; i++) {
+                double area = Math.abs((x[a] - meanX) * (y[i] - y[a]) - (x[a] - x[i]) * (meanY - y[a]));
+                if (area > largest) {
+                    largest = area;
+                    chosen = i;
+                }
+            }
+            kept[bucket + 1] = chosen;
+            a = chosen;
+        }
+        kept[threshold - 1] = count - 1;
+        return kept;
+    }
+}
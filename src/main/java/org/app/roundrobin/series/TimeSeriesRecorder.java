@@ -0,0 +1,164 @@
+package org.app.roundrobin.series;
+
+import org.app.roundrobin.algorithm.ScheduleEventSink;
+
+/**
+ * Ready-queue length, CPU busy time and arrivals per time window, collected from the scheduling events.
+ * <p>
+ * Memory is bounded by {@code capacity} windows whatever the trace length: windows start one time unit
+ * wide, and when the schedule runs past the last one, neighbouring windows are merged pairwise and the
+ * width doubles. Queue changes reach the sink in time order (dispatch at the slice start, arrivals during
+ * the slice, the preempted process at its end), so the queue length is integrated over time as it goes.
+ * <pre>
+ * TimeSeriesRecorder series = new TimeSeriesRecorder();
+ * RoundRobinScheduler.schedule(workload, quantum, series);
+ * </pre>
+ */
+public final class TimeSeriesRecorder implements ScheduleEventSink {
+
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private final int capacity;
+    private long width = 1;
+    private int windows; // windows touched so far
+    private final double[] queueArea; // integral of the ready-queue length over each window
+    private final long[] busy;
+    private final long[] arrivals;
+
+    private int queueLength;
+    private long clock; // time up to which the queue length has been integrated
+    private long endTime;
+    private boolean inSlice; // between a DISPATCH and its PREEMPT or COMPLETE
+
+    public TimeSeriesRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TimeSeriesRecorder(int capacity) {
+        if (capacity < 2 || capacity % 2 != 0) {
+            throw new IllegalArgumentException("Capacity must be an even number of at least 2");
+        }
+        this.capacity = capacity;
+        this.queueArea = new double[capacity];
+        this.busy = new long[capacity];
+        this.arrivals = new long[capacity];
+    }
+
+    @Override
+    public void event(int type, int time, int handle, int aux) {
+        switch (type) {
+            case ARRIVAL -> {
+                arrivals[window(time)]++;
+                // After a slice, processes with nothing to run are not queued (see ScheduleStepper)
+                if (!inSlice || aux > 0) {
+                    changeQueue(time, 1);
+                }
+            }
+            case DISPATCH -> {
+                inSlice = true;
+                changeQueue(time, -1);
+                addBusy(time, aux);
+            }
+            case PREEMPT -> {
+                inSlice = false;
+                changeQueue(time, 1);
+            }
+            case COMPLETE -> {
+                inSlice = false;
+                advanceClock(time);
+            }
+            case IDLE -> advanceClock(aux);
+            default -> {
+            }
+        }
+    }
+
+    public int windowCount() { return windows; }
+    public long windowWidth() { return width; }
+    public long endTime() { return endTime; }
+    public long windowStart(int window) { return window * width; }
+
+    /**
+     * Mean ready-queue length over a window (the last window only counts up to the end of the schedule).
+     */
+    public double queueLength(int window) {
+        return queueArea[window] / covered(window);
+    }
+
+    /**
+     * Fraction of a window the CPU was busy, 0 to 1.
+     */
+    public double utilization(int window) {
+        return busy[window] / covered(window);
+    }
+
+    public long arrivals(int window) {
+        return arrivals[window];
+    }
+
+    private double covered(int window) {
+        long start = windowStart(window);
+        return Math.max(1, Math.min(width, endTime - start));
+    }
+
+    private void changeQueue(int time, int delta) {
+        advanceClock(time);
+        queueLength += delta;
+    }
+
+    // Integrate the current queue length up to {@code time}, window by window
+    private void advanceClock(long time) {
+        if (time <= clock) {
+            return;
+        }
+        window(time - 1);
+        endTime = Math.max(endTime, time);
+        while (clock < time) {
+            int w = (int) (clock / width);
+            long to = Math.min(time, (w + 1) * width);
+            queueArea[w] += (double) queueLength * (to - clock);
+            clock = to;
+        }
+    }
+
+    private void addBusy(long from, long to) {
+        if (to <= from) {
+            window(from);
+            return;
+        }
+        window(to - 1);
+        endTime = Math.max(endTime, to);
+        while (from < to) {
+            int w = (int) (from / width);
+            long end = Math.min(to, (w + 1) * width);
+            busy[w] += end - from;
+            from = end;
+        }
+    }
+
+    // Window holding {@code time}, merging windows until it fits
+    private int window(long time) {
+        while (time >= capacity * width) {
+            merge();
+        }
+        int w = (int) (time / width);
+        windows = Math.max(windows, w + 1);
+        return w;
+    }
+
+    private void merge() {
+        int half = capacity / 2;
+        for (int w = 0; w < half; w++) {
+            queueArea[w] = queueArea[2 * w] + queueArea[2 * w + 1];
+            busy[w] = busy[2 * w] + busy[2 * w + 1];
+            arrivals[w] = arrivals[2 * w] + arrivals[2 * w + 1];
+        }
+        for (int w = half; w < capacity; w++) {
+            queueArea[w] = 0;
+            busy[w] = 0;
+            arrivals[w] = 0;
+        }
+        width *= 2;
+        windows = (windows + 1) / 2;
+    }
+}
@@ -0,0 +1,289 @@
+package org.app.roundrobin.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.app.roundrobin.algorithm.RoundRobinScheduler;
+import org.app.roundrobin.algorithm.SchedulerEngine;
+import org.app.roundrobin.algorithm.SimulationCache;
+import org.app.roundrobin.model.Metrics;
+import org.app.roundrobin.model.WorkloadRegistry;
+import org.app.roundrobin.utils.WorkloadCsv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * HTTP front end to the simulator on the JDK's built-in server, for tools that do not want the UI.
+ * <pre>
+ * POST /simulate?quantum=4[&amp;policy=RR][&amp;gantt=true]
+ *   Content-Type: text/csv                  id,arrival,burst lines (header optional)
+ *   Content-Type: application/octet-stream  int count, then per process: UTF id, int arrival, int burst
+ * </pre>
+ * The reply is JSON: {@code {"metrics":{...}}}, plus {@code "gantt":[["P1",0,4],...]} when asked for,
+ * streamed as it is written. Each exchange runs on its own virtual thread; scheduling itself takes one of
+ * a fixed number of CPU permits. Identical requests in flight share one computation, and recent results
+ * are served from a {@link SimulationCache}.
+ */
+public class SimulationServer implements AutoCloseable {
+
+    public static final String CONTEXT = "/simulate";
+
+    private static final String BINARY_TYPE = "application/octet-stream";
+    private static final long CACHE_WEIGHT = 2_000_000;
+    private static final int BACKLOG = 1024;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore cpuPermits;
+    // Engines are reused across requests; at most one per permit is ever in use
+    private final ConcurrentLinkedQueue<SchedulerEngine> engines = new ConcurrentLinkedQueue<>();
+    private final SimulationCache cache = new SimulationCache(CACHE_WEIGHT);
+    private final ConcurrentHashMap<String, CompletableFuture<RoundRobinScheduler.SimulationResult>> inFlight =
+            new ConcurrentHashMap<>();
+
+    /**
+     * @param port       0 for any free port
+     * @param cpuPermits simulations allowed to run at once, usually the number of cores
+     */
+    public SimulationServer(int port, int cpuPermits) throws IOException {
+        if (cpuPermits <= 0) {
+            throw new IllegalArgumentException("At least one CPU permit is required");
+        }
+        this.cpuPermits = new Semaphore(cpuPermits);
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        server.createContext(CONTEXT, this::handle);
+        server.setExecutor(executor);
+    }
+
+    public void start() { server.start(); }
+
+    public int getPort() { return server.getAddress().getPort(); }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Use POST");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            int quantum;
+            WorkloadRegistry workload;
+            try {
+                quantum = Integer.parseInt(query.getOrDefault("quantum", ""));
+                if (quantum <= 0) {
+                    throw new IllegalArgumentException("Quantum must be greater than 0");
+                }
+                String policy = query.getOrDefault("policy", SimulationCache.POLICY_ROUND_ROBIN);
+                if (!SimulationCache.POLICY_ROUND_ROBIN.equals(policy)) {
+                    throw new IllegalArgumentException("Unsupported policy " + policy);
+                }
+                workload = readWorkload(exchange);
+                if (workload.isEmpty()) {
+                    throw new IllegalArgumentException("Workload is empty");
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                // NumberFormatException included: a missing or malformed quantum
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            RoundRobinScheduler.SimulationResult result;
+            try {
+                result = simulate(workload, quantum);
+            } catch (RuntimeException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                sendError(exchange, 500, String.valueOf(cause));
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sendError(exchange, 503, "Interrupted");
+                return;
+            }
+            writeResult(exchange, result, Boolean.parseBoolean(query.get("gantt")));
+        }
+    }
+
+    /**
+     * Cached result, or join a computation of the same key already running, or run one under a CPU permit.
+     */
+    private RoundRobinScheduler.SimulationResult simulate(WorkloadRegistry workload, int quantum)
+            throws InterruptedException {
+        String key = SimulationCache.key(workload, quantum, SimulationCache.POLICY_ROUND_ROBIN);
+        RoundRobinScheduler.SimulationResult cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<RoundRobinScheduler.SimulationResult> mine = new CompletableFuture<>();
+        CompletableFuture<RoundRobinScheduler.SimulationResult> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            cpuPermits.acquire();
+            try {
+                SchedulerEngine engine = engines.poll();
+                if (engine == null) {
+                    engine = new SchedulerEngine();
+                }
+                RoundRobinScheduler.SimulationResult result;
+                try {
+                    result = engine.schedule(workload, quantum);
+                } finally {
+                    engines.offer(engine);
+                }
+                cache.put(key, result);
+                mine.complete(result);
+            } finally {
+                cpuPermits.release();
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return mine.join();
+    }
+
+    private static WorkloadRegistry readWorkload(HttpExchange exchange) throws IOException {
+        WorkloadRegistry workload = new WorkloadRegistry();
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType != null && contentType.startsWith(BINARY_TYPE)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(exchange.getRequestBody(), 64 * 1024));
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Invalid process count " + count);
+            }
+            // Grow as processes actually arrive rather than trusting the declared count
+            int capacity = Math.min(count, 1 << 16);
+            String[] ids = new String[capacity];
+            int[] arrivals = new int[capacity];
+            int[] bursts = new int[capacity];
+            for (int i = 0; i < count; i++) {
+                if (i == ids.length) {
+                    capacity = (int) Math.min(count, 2L * capacity);
+                    ids = Arrays.copyOf(ids, capacity);
+                    arrivals = Arrays.copyOf(arrivals, capacity);
+                    bursts = Arrays.copyOf(bursts, capacity);
+                }
+                ids[i] = in.readUTF();
+                arrivals[i] = in.readInt();
+                bursts[i] = in.readInt();
+            }
+            workload.addAll(ids, arrivals, bursts);
+        } else {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8), 64 * 1024);
+            WorkloadCsv.read(reader, "request", workload);
+        }
+        return workload;
+    }
+
+    private static void writeResult(HttpExchange exchange, RoundRobinScheduler.SimulationResult result,
+                                    boolean gantt) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        // Length 0 means chunked: the timeline is written as it is formatted, never held whole
+        exchange.sendResponseHeaders(200, 0);
+        Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 64 * 1024);
+        Metrics m = result.getMetrics();
+        out.write("{\"metrics\":{\"avgWaitingTime\":" + m.getAvgWaitingTime()
+                + ",\"avgTurnaroundTime\":" + m.getAvgTurnaroundTime()
+                + ",\"cpuUtilization\":" + m.getCpuUtilization()
+                + ",\"throughput\":" + m.getThroughput()
+                + ",\"totalProcesses\":" + m.getTotalProcesses()
+                + ",\"totalTime\":" + m.getTotalTime() + "}");
+        if (gantt) {
+            out.write(",\"gantt\":[");
+            for (int i = 0; i < result.getGanttEntryCount(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write('[');
+                writeString(out, result.getEntryProcessId(i));
+                out.write(',');
+                out.write(Integer.toString(result.getEntryStart(i)));
+                out.write(',');
+                out.write(Integer.toString(result.getEntryEnd(i)));
+                out.write(']');
+            }
+            out.write(']');
+        }
+        out.write("}\n");
+        out.flush();
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message == null ? "Error" : message).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static void writeString(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write(String.format("\\u%04x", (int) c));
+            } else {
+                out.write(c);
+            }
+        }
+        out.write('"');
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    /**
+     * Serve until killed: {@code SimulationServer [port] [cpuPermits]}.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int permits = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        SimulationServer server = new SimulationServer(port, permits);
+        server.start();
+        System.out.println("Simulation server on port " + server.getPort() + " with " + permits + " CPU permits");
+    }
+}
@@ -1,8 +1,8 @@
 package org.app.roundrobin.utils;
 
 import javafx.scene.paint.Color;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Constants {
     public static final int DEFAULT_QUANTUM = 2;
@@ -16,7 +16,8 @@ public class Constants {
             "#2980b9", "#8e44ad", "#c0392b", "#d35400", "#7f8c8d"
     };
 
-    private static final Map<String, String> COLOR_MAP = new HashMap<>();
+    // Concurrent: colors are also looked up by background renderers
+    private static final Map<String, String> COLOR_MAP = new ConcurrentHashMap<>();
 
     static {
         // Predefined colors for common process IDs
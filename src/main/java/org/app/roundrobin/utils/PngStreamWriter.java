@@ -0,0 +1,159 @@
+package org.app.roundrobin.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Minimal streaming PNG encoder (8-bit RGBA, no interlacing).
+ * Rows are pushed top to bottom as ARGB ints and compressed on the fly,
+ * so the full image never has to be held in memory.
+ */
+public class PngStreamWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+    private static final int IDAT_CHUNK_SIZE = 1 << 16;
+
+    private final DataOutputStream out;
+    private final DeflaterOutputStream idat;
+    private final Deflater deflater;
+    private final int width;
+    private final int height;
+    private final byte[] rowBytes;
+    private int rowsWritten;
+
+    public PngStreamWriter(File file, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid image size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.rowBytes = new byte[1 + width * 4]; // filter byte + RGBA
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), IDAT_CHUNK_SIZE));
+
+        out.write(SIGNATURE);
+        writeHeader();
+
+        this.deflater = new Deflater(Deflater.BEST_SPEED);
+        this.idat = new DeflaterOutputStream(new IdatChunkStream(), deflater, IDAT_CHUNK_SIZE);
+    }
+
+    /**
+     * Append {@code rows} scanlines taken from an ARGB buffer with the given stride.
+     */
+    public void writeRows(int[] argb, int offset, int scanlineStride, int rows) throws IOException {
+        if (rowsWritten + rows > height) {
+            throw new IllegalStateException("Too many rows written: " + (rowsWritten + rows) + " > " + height);
+        }
+        for (int r = 0; r < rows; r++) {
+            int src = offset + r * scanlineStride;
+            int dst = 1; // rowBytes[0] stays 0 (filter: None)
+            for (int x = 0; x < width; x++) {
+                int pixel = argb[src + x];
+                rowBytes[dst++] = (byte) (pixel >>> 16);
+                rowBytes[dst++] = (byte) (pixel >>> 8);
+                rowBytes[dst++] = (byte) pixel;
+                rowBytes[dst++] = (byte) (pixel >>> 24);
+            }
+            idat.write(rowBytes, 0, rowBytes.length);
+        }
+        rowsWritten += rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            idat.finish();
+            idat.flush();
+            writeChunk("IEND", new byte[0], 0);
+            out.flush();
+        } finally {
+            deflater.end();
+            out.close();
+        }
+        if (rowsWritten != height) {
+            throw new IOException("PNG incomplete: wrote " + rowsWritten + " of " + height + " rows");
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        byte[] ihdr = new byte[13];
+        putInt(ihdr, 0, width);
+        putInt(ihdr, 4, height);
+        ihdr[8] = 8;  // bit depth
+        ihdr[9] = 6;  // colour type: truecolour with alpha
+        ihdr[10] = 0; // compression
+        ihdr[11] = 0; // filter
+        ihdr[12] = 0; // interlace
+        writeChunk("IHDR", ihdr, ihdr.length);
+    }
+
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    private static void putInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+
+    /**
+     * Buffers compressed bytes and emits them as IDAT chunks of bounded size.
+     */
+    private class IdatChunkStream extends OutputStream {
+        private final byte[] buffer = new byte[IDAT_CHUNK_SIZE];
+        private int count;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                flushChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) {
+                    flushChunk();
+                }
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushChunk();
+        }
+
+        private void flushChunk() throws IOException {
+            if (count > 0) {
+                writeChunk("IDAT", buffer, count);
+                count = 0;
+            }
+        }
+    }
+}
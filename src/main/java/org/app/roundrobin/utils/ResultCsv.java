@@ -0,0 +1,65 @@
+package org.app.roundrobin.utils;
+
+import org.app.roundrobin.model.Process;
+import org.app.roundrobin.model.ProcessColumns;
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Simulation results as CSV: one row per process with its times, in column order.
+ */
+public final class ResultCsv {
+
+    public static final String HEADER = "Process ID,Arrival Time,Burst Time,Completion Time,Turnaround Time,Waiting Time";
+
+    private ResultCsv() {
+    }
+
+    public static void write(ProcessColumns columns, Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write(System.lineSeparator());
+        StringBuilder line = new StringBuilder(64);
+        for (int row = 0; row < columns.size(); row++) {
+            writeRow(writer, line, columns.getProcessId(row), columns.getArrivalTime(row), columns.getBurstTime(row),
+                    columns.getCompletionTime(row), columns.getTurnaroundTime(row), columns.getWaitingTime(row));
+        }
+    }
+
+    /**
+     * A workload before it is run: the times after the burst are zero, as for fresh processes.
+     */
+    public static void write(WorkloadRegistry workload, Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write(System.lineSeparator());
+        StringBuilder line = new StringBuilder(64);
+        for (int handle = 0; handle < workload.size(); handle++) {
+            writeRow(writer, line, workload.getProcessId(handle), workload.getArrivalTime(handle),
+                    workload.getBurstTime(handle), 0, 0, 0);
+        }
+    }
+
+    /**
+     * Processes as they stand, with whatever times they hold (zero before a run).
+     */
+    public static void write(List<Process> processes, Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write(System.lineSeparator());
+        StringBuilder line = new StringBuilder(64);
+        for (Process p : processes) {
+            writeRow(writer, line, p.getProcessId(), p.getArrivalTime(), p.getBurstTime(),
+                    p.getCompletionTime(), p.getTurnaroundTime(), p.getWaitingTime());
+        }
+    }
+
+    private static void writeRow(Writer writer, StringBuilder line, String id, int arrival, int burst,
+                                 int completion, int turnaround, int waiting) throws IOException {
+        line.setLength(0);
+        line.append(id).append(',').append(arrival).append(',').append(burst).append(',')
+                .append(completion).append(',').append(turnaround).append(',').append(waiting)
+                .append(System.lineSeparator());
+        writer.append(line);
+    }
+}
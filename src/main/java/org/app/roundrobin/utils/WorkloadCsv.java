@@ -0,0 +1,103 @@
+package org.app.roundrobin.utils;
+
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Workload files: one process per line as {@code id,arrival,burst}, with an optional header line.
+ * Reading is a single pass into columns followed by one bulk add.
+ */
+public final class WorkloadCsv {
+
+    public static final String HEADER = "Process ID,Arrival Time,Burst Time";
+
+    private WorkloadCsv() {
+    }
+
+    public static WorkloadRegistry read(Path file) throws IOException {
+        WorkloadRegistry registry = new WorkloadRegistry();
+        read(file, registry);
+        return registry;
+    }
+
+    /**
+     * Replace the contents of {@code registry} with the workload in {@code file}.
+     */
+    public static void read(Path file, WorkloadRegistry registry) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            read(reader, file.toString(), registry);
+        }
+    }
+
+    /**
+     * Replace the contents of {@code registry} with the workload read from {@code reader}.
+     *
+     * @param source name used in error messages
+     */
+    public static void read(BufferedReader reader, String source, WorkloadRegistry registry) throws IOException {
+        String[] ids = new String[1024];
+        int[] arrivals = new int[1024];
+        int[] bursts = new int[1024];
+        int count = 0;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                continue;
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                arrivals = Arrays.copyOf(arrivals, count * 2);
+                bursts = Arrays.copyOf(bursts, count * 2);
+            }
+            int firstComma = line.indexOf(',');
+            int secondComma = firstComma < 0 ? -1 : line.indexOf(',', firstComma + 1);
+            if (secondComma < 0) {
+                throw new IOException(source + ":" + lineNumber + ": expected id,arrival,burst");
+            }
+            int end = line.indexOf(',', secondComma + 1);
+            try {
+                ids[count] = line.substring(0, firstComma).trim();
+                arrivals[count] = Integer.parseInt(line.substring(firstComma + 1, secondComma).trim());
+                bursts[count] = Integer.parseInt(line.substring(secondComma + 1, end < 0 ? line.length() : end).trim());
+            } catch (NumberFormatException e) {
+                throw new IOException(source + ":" + lineNumber + ": invalid number", e);
+            }
+            count++;
+        }
+
+        try {
+            registry.replaceAll(Arrays.copyOf(ids, count), Arrays.copyOf(arrivals, count), Arrays.copyOf(bursts, count));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(source + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static void write(WorkloadRegistry registry, Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int handle = 0; handle < registry.size(); handle++) {
+                writer.write(registry.getProcessId(handle));
+                writer.write(',');
+                writer.write(Integer.toString(registry.getArrivalTime(handle)));
+                writer.write(',');
+                writer.write(Integer.toString(registry.getBurstTime(handle)));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static boolean isHeader(String line) {
+        return line.regionMatches(true, 0, "Process ID", 0, "Process ID".length());
+    }
+}
@@ -0,0 +1,268 @@
+package org.app.roundrobin.utils;
+
+import org.app.roundrobin.model.WorkloadRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A {@link WorkloadCsv} file kept parsed line by line, so an edited version can be re-read incrementally.
+ * <p>
+ * {@link #reload()} compares the new bytes with the previous ones: the common prefix and common suffix
+ * are unchanged, so only the lines overlapping the bytes in between are parsed again, and the parsed
+ * lines after them are reused with shifted offsets. Typing in one line of a large file re-parses that line.
+ */
+public final class WorkloadFile {
+
+    // The common suffix is found a block at a time (vectorized compare), then byte by byte
+    private static final int SUFFIX_BLOCK = 4096;
+
+    private final Path path;
+    private byte[] content = new byte[0];
+
+    // One entry per physical line (terminator included); ids[i] is null for blank and header lines
+    private int lineCount;
+    private int[] lineStarts = new int[1]; // lineCount + 1 entries, the last being content.length
+    private String[] ids = new String[0];
+    private int[] arrivals = new int[0];
+    private int[] bursts = new int[0];
+
+    private int lastReparsedLines;
+
+    public WorkloadFile(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() { return path; }
+
+    /**
+     * Lines parsed by the last {@link #reload()}, for progress reporting.
+     */
+    public synchronized int getLastReparsedLines() { return lastReparsedLines; }
+
+    /**
+     * Read the file again, parsing only what changed since the last read.
+     *
+     * @return false if the file is byte-for-byte unchanged
+     */
+    public synchronized boolean reload() throws IOException {
+        byte[] updated = Files.readAllBytes(path);
+        byte[] old = content;
+        int prefix = Arrays.mismatch(old, updated);
+        if (prefix < 0) {
+            lastReparsedLines = 0;
+            return false;
+        }
+        int maxSuffix = Math.min(old.length, updated.length) - prefix;
+        int suffix = 0;
+        while (suffix + SUFFIX_BLOCK <= maxSuffix && Arrays.equals(
+                old, old.length - suffix - SUFFIX_BLOCK, old.length - suffix,
+                updated, updated.length - suffix - SUFFIX_BLOCK, updated.length - suffix)) {
+            suffix += SUFFIX_BLOCK;
+        }
+        while (suffix < maxSuffix && old[old.length - 1 - suffix] == updated[updated.length - 1 - suffix]) {
+            suffix++;
+        }
+
+        // Old lines [first, last) hold every changed byte; the line holding the first suffix byte is included,
+        // so the line boundaries either side of the range lie in unchanged bytes
+        int first = lineCount == 0 ? 0 : lineOf(prefix);
+        int last = lineCount == 0 ? 0 : Math.min(lineCount, lineOf(old.length - suffix) + 1);
+        int delta = updated.length - old.length;
+        int from = first < lineCount ? lineStarts[first] : old.length;
+        int to = (last < lineCount ? lineStarts[last] : old.length) + delta;
+        if (last == lineCount) {
+            to = updated.length;
+        }
+
+        Lines middle = parse(updated, from, to, first);
+        int tail = lineCount - last;
+        int newCount = first + middle.count + tail;
+
+        int[] newStarts = new int[newCount + 1];
+        String[] newIds = new String[newCount];
+        int[] newArrivals = new int[newCount];
+        int[] newBursts = new int[newCount];
+        System.arraycopy(lineStarts, 0, newStarts, 0, first);
+        System.arraycopy(ids, 0, newIds, 0, first);
+        System.arraycopy(arrivals, 0, newArrivals, 0, first);
+        System.arraycopy(bursts, 0, newBursts, 0, first);
+        System.arraycopy(middle.starts, 0, newStarts, first, middle.count);
+        System.arraycopy(middle.ids, 0, newIds, first, middle.count);
+        System.arraycopy(middle.arrivals, 0, newArrivals, first, middle.count);
+        System.arraycopy(middle.bursts, 0, newBursts, first, middle.count);
+        int at = first + middle.count;
+        for (int i = 0; i < tail; i++) {
+            newStarts[at + i] = lineStarts[last + i] + delta;
+        }
+        System.arraycopy(ids, last, newIds, at, tail);
+        System.arraycopy(arrivals, last, newArrivals, at, tail);
+        System.arraycopy(bursts, last, newBursts, at, tail);
+        newStarts[newCount] = updated.length;
+
+        content = updated;
+        lineCount = newCount;
+        lineStarts = newStarts;
+        ids = newIds;
+        arrivals = newArrivals;
+        bursts = newBursts;
+        lastReparsedLines = middle.count;
+        return true;
+    }
+
+    /**
+     * Replace the contents of {@code registry} with the last read workload.
+     */
+    public synchronized void copyTo(WorkloadRegistry registry) throws IOException {
+        int count = 0;
+        for (int line = 0; line < lineCount; line++) {
+            if (ids[line] != null) {
+                count++;
+            }
+        }
+        String[] processIds = new String[count];
+        int[] processArrivals = new int[count];
+        int[] processBursts = new int[count];
+        for (int line = 0, i = 0; line < lineCount; line++) {
+            if (ids[line] != null) {
+                processIds[i] = ids[line];
+                processArrivals[i] = arrivals[line];
+                processBursts[i] = bursts[line];
+                i++;
+            }
+        }
+        try {
+            registry.replaceAll(processIds, processArrivals, processBursts);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(path + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Line holding byte {@code offset}; the last line for offsets at or past the end
+    private int lineOf(int offset) {
+        int index = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+        int line = index >= 0 ? index : -index - 2;
+        return Math.max(0, Math.min(lineCount - 1, line));
+    }
+
+    private static final class Lines {
+        int count;
+        int[] starts = new int[16];
+        String[] ids = new String[16];
+        int[] arrivals = new int[16];
+        int[] bursts = new int[16];
+
+        void add(int start, String id, int arrival, int burst) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ids = Arrays.copyOf(ids, count * 2);
+                arrivals = Arrays.copyOf(arrivals, count * 2);
+                bursts = Arrays.copyOf(bursts, count * 2);
+            }
+            starts[count] = start;
+            ids[count] = id;
+            arrivals[count] = arrival;
+            bursts[count] = burst;
+            count++;
+        }
+    }
+
+    /**
+     * Parse the lines in {@code [from, to)}; {@code firstLine} is the index of the first one, for messages.
+     */
+    private Lines parse(byte[] bytes, int from, int to, int firstLine) throws IOException {
+        Lines lines = new Lines();
+        int start = from;
+        int line = firstLine;
+        while (start < to) {
+            int newline = start;
+            while (newline < to && bytes[newline] != '\n') {
+                newline++;
+            }
+            int end = newline > start && bytes[newline - 1] == '\r' ? newline - 1 : newline;
+            parseLine(bytes, start, end, line, lines);
+            start = newline + 1;
+            line++;
+        }
+        return lines;
+    }
+
+    private void parseLine(byte[] bytes, int start, int end, int line, Lines lines) throws IOException {
+        if (isBlank(bytes, start, end) || (line == 0 && isHeader(bytes, start, end))) {
+            lines.add(start, null, 0, 0);
+            return;
+        }
+        int firstComma = indexOf(bytes, start, end, ',');
+        int secondComma = firstComma < 0 ? -1 : indexOf(bytes, firstComma + 1, end, ',');
+        if (secondComma < 0) {
+            throw new IOException(path + ":" + (line + 1) + ": expected id,arrival,burst");
+        }
+        int third = indexOf(bytes, secondComma + 1, end, ',');
+        String id = new String(bytes, start, firstComma - start, StandardCharsets.UTF_8).trim();
+        int arrival = parseInt(bytes, firstComma + 1, secondComma, line);
+        int burst = parseInt(bytes, secondComma + 1, third < 0 ? end : third, line);
+        lines.add(start, id, arrival, burst);
+    }
+
+    private int parseInt(byte[] bytes, int from, int to, int line) throws IOException {
+        while (from < to && bytes[from] <= ' ') {
+            from++;
+        }
+        while (to > from && bytes[to - 1] <= ' ') {
+            to--;
+        }
+        boolean negative = from < to && bytes[from] == '-';
+        if (from < to && (bytes[from] == '-' || bytes[from] == '+')) {
+            from++;
+        }
+        if (from == to) {
+            throw new IOException(path + ":" + (line + 1) + ": invalid number");
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || (value = value * 10 + digit) > (long) Integer.MAX_VALUE + 1) {
+                throw new IOException(path + ":" + (line + 1) + ": invalid number");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(path + ":" + (line + 1) + ": invalid number");
+        }
+        return (int) value;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, char c) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHeader(byte[] bytes, int from, int to) {
+        String prefix = "process id";
+        if (to - from < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(bytes[from + i]) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package org.app.roundrobin.utils;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches one file through its directory's {@link WatchService} and calls back once a burst of writes has
+ * settled: every event restarts a {@code debounceMillis} timer, and the callback runs when it expires.
+ * Editors that save by writing a temporary file and renaming it over the original are covered, since
+ * creation counts as a change. Callbacks run one at a time on a background thread.
+ */
+public final class WorkloadFileWatcher implements AutoCloseable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread watchThread;
+    private final ScheduledExecutorService debouncer;
+    private final long debounceMillis;
+    private final Runnable onChange;
+    private ScheduledFuture<?> pending;
+    private boolean closed;
+
+    public WorkloadFileWatcher(Path file, Runnable onChange) throws IOException {
+        this(file, DEFAULT_DEBOUNCE_MILLIS, onChange);
+    }
+
+    public WorkloadFileWatcher(Path file, long debounceMillis, Runnable onChange) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.debounceMillis = debounceMillis;
+        this.onChange = onChange;
+        Path directory = this.file.getParent();
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        this.debouncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "workload-file-debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchThread = new Thread(this::watch, "workload-file-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    public Path getFile() { return file; }
+
+    private void watch() {
+        Path name = file.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || name.equals(event.context());
+                }
+                if (changed) {
+                    schedule();
+                }
+                if (!key.reset()) {
+                    return; // directory gone
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private synchronized void schedule() {
+        if (closed) {
+            return; // close() ran while the watch thread was handling a key
+        }
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        pending = debouncer.schedule(onChange, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+        }
+        watchService.close();
+        debouncer.shutdownNow();
+        watchThread.interrupt();
+    }
+}
@@ -0,0 +1,94 @@
+package org.app.roundrobin.algorithm;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link MetricKernels} on the widest vectors the CPU has. Differences and min/max stay in int lanes; sums
+ * are widened to long lanes and squares to double lanes, each int vector filling two halves of the same bit
+ * size. Lanes are reduced once at the end and the tail goes through {@link ScalarMetricKernels}, so sums,
+ * minima and maxima are exact and only the order of the floating-point squares differs.
+ * <p>
+ * Compiled only by the {@code vector} profile, so the default build does not touch the incubator module;
+ * {@link ResultStatistics} loads it reflectively once it has checked that {@code jdk.incubator.vector} is
+ * present.
+ */
+final class VectorMetricKernels implements MetricKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Whether ints widen into exactly two long (and double) vectors, as on every current vector unit.
+     */
+    static boolean supported() {
+        return INTS.length() == 2 * LONGS.length() && LONGS.length() == DOUBLES.length();
+    }
+
+    @Override
+    public long accumulate(int[] arrivals, int[] bursts, int[] completions, int length, Moments turnaround,
+                           Moments waiting) {
+        IntVector turnaroundMin = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        IntVector turnaroundMax = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        IntVector waitingMin = turnaroundMin;
+        IntVector waitingMax = turnaroundMax;
+        LongVector turnaroundSum = LongVector.zero(LONGS);
+        LongVector waitingSum = LongVector.zero(LONGS);
+        LongVector burstSum = LongVector.zero(LONGS);
+        DoubleVector turnaroundSquares = DoubleVector.zero(DOUBLES);
+        DoubleVector waitingSquares = DoubleVector.zero(DOUBLES);
+        DoubleVector turnaroundPivot = DoubleVector.broadcast(DOUBLES, turnaround.pivot);
+        DoubleVector waitingPivot = DoubleVector.broadcast(DOUBLES, waiting.pivot);
+
+        int bound = INTS.loopBound(length);
+        for (int i = 0; i < bound; i += INTS.length()) {
+            IntVector b = IntVector.fromArray(INTS, bursts, i);
+            IntVector t = IntVector.fromArray(INTS, completions, i).sub(IntVector.fromArray(INTS, arrivals, i));
+            IntVector w = t.sub(b);
+            turnaroundMin = turnaroundMin.min(t);
+            turnaroundMax = turnaroundMax.max(t);
+            waitingMin = waitingMin.min(w);
+            waitingMax = waitingMax.max(w);
+            for (int part = 0; part < 2; part++) {
+                turnaroundSum = turnaroundSum.add(t.convertShape(VectorOperators.I2L, LONGS, part));
+                waitingSum = waitingSum.add(w.convertShape(VectorOperators.I2L, LONGS, part));
+                burstSum = burstSum.add(b.convertShape(VectorOperators.I2L, LONGS, part));
+                DoubleVector td = ((DoubleVector) t.convertShape(VectorOperators.I2D, DOUBLES, part)).sub(turnaroundPivot);
+                DoubleVector wd = ((DoubleVector) w.convertShape(VectorOperators.I2D, DOUBLES, part)).sub(waitingPivot);
+                turnaroundSquares = td.fma(td, turnaroundSquares);
+                waitingSquares = wd.fma(wd, waitingSquares);
+            }
+        }
+
+        turnaround.sum += turnaroundSum.reduceLanes(VectorOperators.ADD);
+        turnaround.min = Math.min(turnaround.min, turnaroundMin.reduceLanes(VectorOperators.MIN));
+        turnaround.max = Math.max(turnaround.max, turnaroundMax.reduceLanes(VectorOperators.MAX));
+        turnaround.squares += turnaroundSquares.reduceLanes(VectorOperators.ADD);
+        waiting.sum += waitingSum.reduceLanes(VectorOperators.ADD);
+        waiting.min = Math.min(waiting.min, waitingMin.reduceLanes(VectorOperators.MIN));
+        waiting.max = Math.max(waiting.max, waitingMax.reduceLanes(VectorOperators.MAX));
+        waiting.squares += waitingSquares.reduceLanes(VectorOperators.ADD);
+        return burstSum.reduceLanes(VectorOperators.ADD)
+                + ScalarMetricKernels.accumulate(arrivals, bursts, completions, bound, length, turnaround, waiting);
+    }
+
+    @Override
+    public long busyTime(int[] rows, int[] starts, int[] ends, int length) {
+        IntVector zero = IntVector.zero(INTS);
+        LongVector busy = LongVector.zero(LONGS);
+        int bound = INTS.loopBound(length);
+        for (int i = 0; i < bound; i += INTS.length()) {
+            VectorMask<Integer> idle = IntVector.fromArray(INTS, rows, i).compare(VectorOperators.LT, 0);
+            IntVector duration = IntVector.fromArray(INTS, ends, i).sub(IntVector.fromArray(INTS, starts, i))
+                    .blend(zero, idle);
+            busy = busy.add(duration.convertShape(VectorOperators.I2L, LONGS, 0))
+                    .add(duration.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        return busy.reduceLanes(VectorOperators.ADD) + ScalarMetricKernels.busyTime(rows, starts, ends, bound, length);
+    }
+}